@@ -0,0 +1,111 @@
+package org.jbehave.core.embedder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jbehave.core.annotations.ScenarioType;
+import org.jbehave.core.condition.ReflectionBasedStepConditionMatcher;
+import org.jbehave.core.condition.StepConditionMatcher;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.steps.BeforeOrAfterStep;
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.StepCandidate;
+import org.jbehave.core.steps.StepType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the building of {@link AllStepCandidates}, which checks the step candidates for duplicates, from large
+ * libraries of step candidates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllStepCandidatesBenchmark {
+
+    private static final StepType[] STEP_TYPES = { StepType.GIVEN, StepType.WHEN, StepType.THEN };
+
+    @Param({ "1000", "5000", "10000" })
+    private int candidates;
+
+    private final StepConditionMatcher stepConditionMatcher = new ReflectionBasedStepConditionMatcher();
+    private List<CandidateSteps> candidateSteps;
+
+    @Setup
+    public void createCandidates() {
+        Configuration configuration = new MostUsefulConfiguration();
+        List<StepCandidate> stepCandidates = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            StepType stepType = STEP_TYPES[i % STEP_TYPES.length];
+            String patternAsString = "the " + (i % 2 == 0 ? "customer " : "order ") + i + " has $value of $type";
+            stepCandidates.add(new StepCandidate(patternAsString, 0, stepType, null, Object.class, null,
+                    configuration.keywords(), configuration.stepPatternParser().parseStep(stepType, patternAsString),
+                    "$", null, null, configuration.stepMonitor()));
+        }
+        candidateSteps = Collections.singletonList(new ListedCandidateSteps(stepCandidates));
+    }
+
+    @Benchmark
+    public AllStepCandidates allStepCandidates() {
+        return new AllStepCandidates(stepConditionMatcher, candidateSteps);
+    }
+
+    private static class ListedCandidateSteps implements CandidateSteps {
+        private final List<StepCandidate> stepCandidates;
+
+        private ListedCandidateSteps(List<StepCandidate> stepCandidates) {
+            this.stepCandidates = stepCandidates;
+        }
+
+        @Override
+        public List<StepCandidate> listCandidates() {
+            return stepCandidates;
+        }
+
+        @Override
+        public List<BeforeOrAfterStep> listBeforeStories() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<BeforeOrAfterStep> listAfterStories() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<BeforeOrAfterStep> listBeforeStory(boolean givenStory) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<BeforeOrAfterStep> listAfterStory(boolean givenStory) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Map<ScenarioType, List<BeforeOrAfterStep>> listBeforeScenario() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Map<ScenarioType, List<BeforeOrAfterStep>> listAfterScenario() {
+            return Collections.emptyMap();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.jbehave.core.parsers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jbehave.core.model.Story;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link RegexStoryParser} and the {@link TokenizingStoryParser} on large stories, made of many scenarios
+ * with inline examples tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StoryParserBenchmark {
+
+    @Param({ "10", "500" })
+    private int scenarios;
+
+    @Param({ "10", "1000" })
+    private int rows;
+
+    private final StoryParser regexParser = new RegexStoryParser();
+    private final StoryParser tokenizingParser = new TokenizingStoryParser();
+    private String storyAsText;
+
+    @Setup
+    public void createStory() {
+        StringBuilder story = new StringBuilder("A large story\n\nMeta:\n@theme parsing\n\nNarrative:\n"
+                + "In order to parse large stories\nAs a story writer\nI want to parse them quickly\n\n"
+                + "Lifecycle:\nBefore:\nGiven a step before each scenario\nAfter:\nOutcome: ANY\n"
+                + "Then a step after each scenario\n");
+        for (int scenario = 0; scenario < scenarios; scenario++) {
+            story.append("\nScenario: scenario ").append(scenario).append("\nMeta:\n@id ").append(scenario)
+                    .append("\nGiven a step with <one>\nWhen a step with <two>\n!-- a comment\n")
+                    .append("Then a step with\n|name|value|\n|one|1|\n|two|2|\nExamples:\n|one|two|\n");
+            for (int row = 0; row < rows; row++) {
+                story.append('|').append(row).append('|').append(row * 2).append("|\n");
+            }
+        }
+        storyAsText = story.toString();
+    }
+
+    @Benchmark
+    public Story regexStoryParser() {
+        return regexParser.parseStory(storyAsText);
+    }
+
+    @Benchmark
+    public Story tokenizingStoryParser() {
+        return tokenizingParser.parseStory(storyAsText);
+    }
+}
@@ -1,15 +1,15 @@
 package org.jbehave.core.embedder;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collector;
-import java.util.stream.Collector.Characteristics;
 import java.util.stream.Collectors;
 
 import org.jbehave.core.annotations.Conditional;
@@ -18,6 +18,8 @@ import org.jbehave.core.condition.StepConditionMatcher;
 import org.jbehave.core.steps.BeforeOrAfterStep;
 import org.jbehave.core.steps.CandidateSteps;
 import org.jbehave.core.steps.ConditionalStepCandidate;
+import org.jbehave.core.steps.IndexedStepCandidates;
+import org.jbehave.core.steps.LiteralPrefixTrie;
 import org.jbehave.core.steps.StepCandidate;
 
 public class AllStepCandidates {
@@ -75,7 +77,7 @@ public class AllStepCandidates {
                     }
                     throw new DuplicateCandidateFound(e.getKey());
                 })
-                .collect(Collectors.toList());
+                .collect(Collectors.collectingAndThen(Collectors.toList(), IndexedStepCandidates::new));
 
         sortBeforeSteps(beforeStoriesSteps);
         sortAfterSteps(afterStoriesSteps);
@@ -130,25 +132,10 @@ public class AllStepCandidates {
         return regularSteps;
     }
 
-    private static Collector<StepCandidate, Map<String, List<StepCandidate>>, Map<String, List<StepCandidate>>>
+    private static Collector<StepCandidate, DuplicateCandidates, Map<String, List<StepCandidate>>>
         stepCandidateCollector() {
-        return Collector.of(LinkedHashMap::new, (map, candidate) -> {
-
-            String candidateWording = candidate.getStartingWord() + " " + candidate.getPatternAsString();
-
-            Optional<String> candidateKey = map.keySet().stream()
-                    .filter(k -> candidate.matches(k) && map.get(k).stream().allMatch(c -> c.matches(candidateWording)))
-                    .findFirst();
-
-            List<StepCandidate> candidates;
-            if (candidateKey.isPresent()) {
-                candidates = map.get(candidateKey.get());
-            } else {
-                candidates = new ArrayList<>();
-                map.put(candidateWording, candidates);
-            }
-            candidates.add(candidate);
-        }, (l, r) -> l, Characteristics.IDENTITY_FINISH);
+        return Collector.of(DuplicateCandidates::new, DuplicateCandidates::add, (l, r) -> l,
+                DuplicateCandidates::byWording);
     }
 
     private boolean areAllCandidatesConditional(Collection<StepCandidate> candidates) {
@@ -159,4 +146,58 @@ public class AllStepCandidates {
                                      || m.getDeclaringClass().isAnnotationPresent(Conditional.class)));
     }
 
+    /**
+     * Groups the candidates whose wordings match each other. Rather than matching each candidate against all the
+     * groups found so far, the groups are indexed by starting word and by the literal prefix of the pattern of their
+     * first candidate, so that only the groups which could plausibly match are tested with the regex patterns.
+     */
+    private static class DuplicateCandidates {
+        private final Map<String, List<StepCandidate>> byWording = new LinkedHashMap<>();
+        private final List<Group> groups = new ArrayList<>();
+        private final Map<String, LiteralPrefixTrie> groupsByStartingWord = new HashMap<>();
+
+        private void add(StepCandidate candidate) {
+            String startingWord = candidate.getStartingWord();
+            String patternAsString = String.valueOf(candidate.getPatternAsString());
+            String candidateWording = startingWord + " " + patternAsString;
+            String candidatePattern = IndexedStepCandidates.normaliseWhitespace(patternAsString);
+            String candidatePrefix = IndexedStepCandidates.literalPrefix(candidate);
+
+            LiteralPrefixTrie trie = groupsByStartingWord.computeIfAbsent(startingWord, w -> new LiteralPrefixTrie());
+            BitSet plausible = new BitSet();
+            trie.collect(candidatePattern, plausible);
+            for (int i = plausible.nextSetBit(0); i >= 0; i = plausible.nextSetBit(i + 1)) {
+                Group group = groups.get(i);
+                if (group != null && group.pattern.startsWith(candidatePrefix) && candidate.matches(group.wording)
+                        && group.candidates.stream().allMatch(c -> c.matches(candidateWording))) {
+                    group.candidates.add(candidate);
+                    return;
+                }
+            }
+
+            Group group = new Group(candidateWording, candidatePattern);
+            group.candidates.add(candidate);
+            List<StepCandidate> replaced = byWording.put(candidateWording, group.candidates);
+            if (replaced != null) {
+                groups.replaceAll(g -> g != null && g.candidates == replaced ? null : g);
+            }
+            trie.add(candidatePrefix, groups.size());
+            groups.add(group);
+        }
+
+        private Map<String, List<StepCandidate>> byWording() {
+            return byWording;
+        }
+    }
+
+    private static class Group {
+        private final String wording;
+        private final String pattern;
+        private final List<StepCandidate> candidates = new ArrayList<>();
+
+        private Group(String wording, String pattern) {
+            this.wording = wording;
+            this.pattern = pattern;
+        }
+    }
 }
@@ -187,4 +187,14 @@ public class DelegatingEmbedderMonitor implements EmbedderMonitor {
     public void usingTimeout(String path, long timeout) {
         delegates.forEach(d -> d.usingTimeout(path, timeout));
     }
+
+    @Override
+    public void stepsResolved(long cacheHits, long cacheMisses) {
+        delegates.forEach(d -> d.stepsResolved(cacheHits, cacheMisses));
+    }
+
+    @Override
+    public void storiesScheduledByDuration(long predictedMakespanInMillis, long actualMakespanInMillis) {
+        delegates.forEach(d -> d.storiesScheduledByDuration(predictedMakespanInMillis, actualMakespanInMillis));
+    }
 }
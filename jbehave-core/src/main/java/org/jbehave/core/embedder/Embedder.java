@@ -3,11 +3,19 @@ package org.jbehave.core.embedder;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -56,6 +64,7 @@ public class Embedder {
     protected boolean executorServiceCreated;
     protected PerformableTree performableTree;
     protected StoryManager storyManager;
+    protected StepCandidatesRegistry stepCandidatesRegistry;
     protected TimeoutParser[] timeoutParsers;
 
     public Embedder() {
@@ -122,23 +131,12 @@ public class Embedder {
         }
 
         BatchFailures failures = new BatchFailures(embedderControls.verboseFailures());
-        for (Embeddable embeddable : embeddables(classNames, classLoader())) {
-            String name = embeddable.getClass().getName();
-            try {
-                embedderMonitor.runningEmbeddable(name);
-                embeddable.useEmbedder(this);
-                embeddable.run();
-            } catch (Throwable e) {
-                if (embedderControls.batch()) {
-                    // collect and postpone decision to throw exception
-                    failures.put(name, e);
-                } else {
-                    if (ignoreFailure(embedderControls)) {
-                        embedderMonitor.embeddableFailed(name, e);
-                    } else {
-                        throw new RunningEmbeddablesFailed(name, e);
-                    }
-                }
+        List<Embeddable> embeddables = embeddables(classNames, classLoader());
+        if (embedderControls.embeddablesThreads() > 1 && embeddables.size() > 1) {
+            runEmbeddablesConcurrently(embeddables, embedderControls, failures);
+        } else {
+            for (Embeddable embeddable : embeddables) {
+                runEmbeddable(embeddable, this, embedderControls, failures);
             }
         }
 
@@ -152,6 +150,146 @@ public class Embedder {
 
     }
 
+    private void runEmbeddable(Embeddable embeddable, Embedder embedder, EmbedderControls embedderControls,
+            BatchFailures failures) {
+        String name = embeddable.getClass().getName();
+        try {
+            embedderMonitor.runningEmbeddable(name);
+            embeddable.useEmbedder(embedder);
+            embeddable.run();
+        } catch (Throwable e) {
+            handleEmbeddableFailure(name, e, embedderControls, failures);
+        }
+    }
+
+    private void handleEmbeddableFailure(String name, Throwable e, EmbedderControls embedderControls,
+            BatchFailures failures) {
+        if (embedderControls.batch()) {
+            // collect and postpone decision to throw exception
+            failures.put(name, e);
+        } else {
+            if (ignoreFailure(embedderControls)) {
+                embedderMonitor.embeddableFailed(name, e);
+            } else {
+                throw new RunningEmbeddablesFailed(name, e);
+            }
+        }
+    }
+
+    /**
+     * Runs the embeddables concurrently, using up to {@link EmbedderControls#embeddablesThreads()} threads. Each
+     * embeddable uses its own Embedder, as embeddables configure the Embedder they run with, while all the Embedders
+     * run their stories with the executor service of this Embedder. The reports view is generated once all the
+     * embeddables have run, rather than after each of them, once for each output directory of their reports. If an
+     * embeddable fails, and failures are neither batched nor ignored, the embeddables not yet started are not run,
+     * while the running ones complete before the reports view is generated and the failure is rethrown.
+     */
+    private void runEmbeddablesConcurrently(List<Embeddable> embeddables, EmbedderControls embedderControls,
+            BatchFailures failures) {
+        EmbedderControls embeddableControls = new ConcurrentEmbeddableControls(embedderControls);
+        ExecutorService storiesExecutorService = executorService();
+        ExecutorService embeddablesExecutorService = Executors.newFixedThreadPool(
+                Math.min(embedderControls.embeddablesThreads(), embeddables.size()));
+        List<Embedder> embedders = new ArrayList<>();
+        Set<Embedder> startedEmbedders = ConcurrentHashMap.newKeySet();
+        Throwable failure = null;
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Embeddable embeddable : embeddables) {
+                Embedder embedder = embedderOfConcurrentEmbeddable(embeddableControls, storiesExecutorService);
+                embedders.add(embedder);
+                futures.add(embeddablesExecutorService.submit(() -> {
+                    startedEmbedders.add(embedder);
+                    runEmbeddable(embeddable, embedder, embedderControls, failures);
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    awaitEmbeddable(embeddables.get(i).getClass().getName(), futures.get(i));
+                } catch (RuntimeException | Error e) {
+                    if (failure == null) {
+                        failure = e;
+                        futures.forEach(future -> future.cancel(false));
+                    }
+                }
+            }
+        } finally {
+            // the stories executor service is shut down only once no embeddable is running
+            awaitTermination(embeddablesExecutorService);
+            if (!embedderControls.reuseExecutorService()) {
+                shutdownExecutorService();
+            }
+            if (embedderControls.generateViewAfterStories()) {
+                generateReportsViewOfConcurrentEmbeddables(embedders, startedEmbedders, embedderControls, failures);
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure != null) {
+            throw (Error) failure;
+        }
+    }
+
+    private void awaitEmbeddable(String name, Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RunningEmbeddablesFailed(name, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    private void awaitTermination(ExecutorService executorService) {
+        executorService.shutdown();
+        try {
+            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void generateReportsViewOfConcurrentEmbeddables(List<Embedder> embedders, Set<Embedder> startedEmbedders,
+            EmbedderControls embedderControls, BatchFailures failures) {
+        Map<File, Embedder> embeddersByOutputDirectory = new LinkedHashMap<>();
+        for (Embedder embedder : embedders) {
+            if (startedEmbedders.contains(embedder)) {
+                embeddersByOutputDirectory.putIfAbsent(
+                        embedder.configuration().storyReporterBuilder().outputDirectory(), embedder);
+            }
+        }
+        for (Map.Entry<File, Embedder> entry : embeddersByOutputDirectory.entrySet()) {
+            try {
+                entry.getValue().generateReportsView();
+            } catch (RuntimeException e) {
+                handleEmbeddableFailure(entry.getKey().getPath(), e, embedderControls, failures);
+            }
+        }
+    }
+
+    private Embedder embedderOfConcurrentEmbeddable(EmbedderControls embedderControls,
+            ExecutorService executorService) {
+        Embedder embedder = new Embedder(new StoryMapper(), new PerformableTree(), embedderMonitor);
+        embedder.useClassLoader(classLoader());
+        embedder.useConfiguration(configuration());
+        embedder.useStepsFactory(stepsFactory());
+        embedder.useEmbedderControls(embedderControls);
+        embedder.useEmbedderFailureStrategy(embedderFailureStrategy());
+        embedder.useMetaFilters(metaFilters());
+        embedder.useMetaMatchers(metaMatchers());
+        embedder.useSystemProperties(systemProperties());
+        embedder.useTimeoutParsers(timeoutParsers());
+        embedder.useExecutorService(executorService);
+        return embedder;
+    }
+
     private boolean ignoreFailure(EmbedderControls embedderControls) {
         boolean ignore = embedderControls.ignoreFailureInStories();
         if (embedderControls.generateViewAfterStories()) {
@@ -207,6 +345,9 @@ public class Embedder {
             StoryManager storyManager = storyManager();
             MetaFilter filter = metaFilter();
             BatchFailures failures = new BatchFailures(embedderControls.verboseFailures());
+            if (embedderControls.parsedStoriesCacheSize() > 0) {
+                performableTree().useParsedStoriesCache(embedderControls.parsedStoriesCacheSize());
+            }
 
             // run stories
             storyManager.runStoriesAsPaths(storyPaths, filter, failures);
@@ -222,10 +363,15 @@ public class Embedder {
                     generateReportsView();
                 }
             } finally {
-                // shutdown regardless of failures in reports view
-                shutdownExecutorService();
-                // reset story manager as executor service is shutdown
+                // shutdown regardless of failures in reports view, unless reused by the next runs
+                if (!embedderControls.reuseExecutorService()) {
+                    shutdownExecutorService();
+                }
+                // reset story manager and parsed stories as they hold the state of the run
                 storyManager = null;
+                if (embedderControls.parsedStoriesCacheSize() > 0) {
+                    performableTree().clearParsedStoriesCache();
+                }
             }
 
         }
@@ -396,12 +542,32 @@ public class Embedder {
 
     /**
      * Creates a {@link ThreadPoolExecutor} using the number of threads defined
-     * in the {@link EmbedderControls#threads()}
+     * in the {@link EmbedderControls#threads()}. If the executor service is reused across the runs of stories, its
+     * threads are daemon threads, so that they don't keep the JVM alive if {@link #shutdown()} is never called.
      * 
      * @return An ExecutorService
      */
     private ExecutorService createExecutorService() {
-        return new FixedThreadExecutors().create(embedderControls());
+        EmbedderControls embedderControls = embedderControls();
+        if (embedderControls.reuseExecutorService()) {
+            ThreadFactory threadFactory = Executors.defaultThreadFactory();
+            return Executors.newFixedThreadPool(embedderControls.threads(), runnable -> {
+                Thread thread = threadFactory.newThread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return new FixedThreadExecutors().create(embedderControls);
+    }
+
+    /**
+     * Shuts down the executor service created by Embedder, if any. It is required once the runs of stories are
+     * completed if the executor service is reused across them, as configured by
+     * {@link EmbedderControls#reuseExecutorService()}, as its threads are otherwise only released when the JVM exits.
+     */
+    public void shutdown() {
+        shutdownExecutorService();
+        storyManager = null;
     }
 
     /**
@@ -426,10 +592,23 @@ public class Embedder {
     }
 
     private StoryManager createStoryManager() {
-        return new StoryManager(configuration(), stepsFactory(), embedderControls(), embedderMonitor(),
+        return new StoryManager(configuration(), stepCandidatesRegistry(), embedderControls(), embedderMonitor(),
                 executorService(), performableTree(), timeoutParsers());
     }
 
+    /**
+     * Returns the registry of the step candidates created from the {@link #stepsFactory()}, shared by the repeated
+     * runs of stories of this Embedder until the steps factory is changed or the registry is invalidated.
+     *
+     * @return The StepCandidatesRegistry
+     */
+    public StepCandidatesRegistry stepCandidatesRegistry() {
+        if (stepCandidatesRegistry == null) {
+            stepCandidatesRegistry = new StepCandidatesRegistry(stepsFactory());
+        }
+        return stepCandidatesRegistry;
+    }
+
     protected void configureThreads(Configuration configuration, int threads) {
         StoryReporterBuilder reporterBuilder = configuration.storyReporterBuilder();
         reporterBuilder.withMultiThreading(threads > 1);
@@ -482,6 +661,7 @@ public class Embedder {
 
     public void useStepsFactory(InjectableStepsFactory stepsFactory) {
         this.stepsFactory = stepsFactory;
+        this.stepCandidatesRegistry = null;
     }
 
     public void useEmbedderControls(EmbedderControls embedderControls) {
@@ -534,6 +714,22 @@ public class Embedder {
 
     }
 
+    /**
+     * The controls of the embeddables run concurrently, delegating to the controls of the running Embedder, except for
+     * the generation of the reports view, which happens once all the embeddables have run.
+     */
+    private static class ConcurrentEmbeddableControls extends UnmodifiableEmbedderControls {
+
+        ConcurrentEmbeddableControls(EmbedderControls delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public boolean generateViewAfterStories() {
+            return false;
+        }
+    }
+
     public static class ThrowingRunningStoriesFailed implements EmbedderFailureStrategy {
 
         @Override
@@ -18,6 +18,11 @@ public class EmbedderControls {
     private String storyTimeouts = "300";
     private int threads = 1;
     private boolean failOnStoryTimeout = false;
+    private boolean scheduleByDuration = false;
+    private boolean loadStoriesInParallel = false;
+    private boolean reuseExecutorService = false;
+    private int embeddablesThreads = 1;
+    private int parsedStoriesCacheSize = 0;
 
     public EmbedderControls() {
     }
@@ -62,6 +67,30 @@ public class EmbedderControls {
         return threads;
     }
 
+    public boolean scheduleByDuration() {
+        return scheduleByDuration;
+    }
+
+    public boolean loadStoriesInParallel() {
+        return loadStoriesInParallel;
+    }
+
+    /**
+     * Whether the executor service created by the Embedder is reused across the runs of stories, in which case
+     * {@link Embedder#shutdown()} must be called once the runs are completed.
+     */
+    public boolean reuseExecutorService() {
+        return reuseExecutorService;
+    }
+
+    public int embeddablesThreads() {
+        return embeddablesThreads;
+    }
+
+    public int parsedStoriesCacheSize() {
+        return parsedStoriesCacheSize;
+    }
+
     public EmbedderControls doBatch(boolean batch) {
         this.batch = batch;
         return this;
@@ -111,6 +140,31 @@ public class EmbedderControls {
         this.threads = threads;
         return this;
     }
+
+    public EmbedderControls doScheduleByDuration(boolean scheduleByDuration) {
+        this.scheduleByDuration = scheduleByDuration;
+        return this;
+    }
+
+    public EmbedderControls doLoadStoriesInParallel(boolean loadStoriesInParallel) {
+        this.loadStoriesInParallel = loadStoriesInParallel;
+        return this;
+    }
+
+    public EmbedderControls doReuseExecutorService(boolean reuseExecutorService) {
+        this.reuseExecutorService = reuseExecutorService;
+        return this;
+    }
+
+    public EmbedderControls useEmbeddablesThreads(int embeddablesThreads) {
+        this.embeddablesThreads = embeddablesThreads;
+        return this;
+    }
+
+    public EmbedderControls useParsedStoriesCacheSize(int parsedStoriesCacheSize) {
+        this.parsedStoriesCacheSize = parsedStoriesCacheSize;
+        return this;
+    }
     
     @Override
     public String toString() {
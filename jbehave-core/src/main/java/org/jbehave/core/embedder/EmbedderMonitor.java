@@ -75,4 +75,8 @@ public interface EmbedderMonitor {
     
     void usingTimeout(String path, long timeout);
 
+    void stepsResolved(long cacheHits, long cacheMisses);
+
+    void storiesScheduledByDuration(long predictedMakespanInMillis, long actualMakespanInMillis);
+
 }
@@ -166,4 +166,14 @@ public class NullEmbedderMonitor implements EmbedderMonitor {
     public void usingTimeout(String path, long timeout) {
         // Do nothing by default
     }
+
+    @Override
+    public void stepsResolved(long cacheHits, long cacheMisses) {
+        // Do nothing by default
+    }
+
+    @Override
+    public void storiesScheduledByDuration(long predictedMakespanInMillis, long actualMakespanInMillis) {
+        // Do nothing by default
+    }
 }
@@ -8,6 +8,11 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -35,16 +40,21 @@ import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.parsers.StoryParser;
 import org.jbehave.core.reporters.ConcurrentStoryReporter;
 import org.jbehave.core.reporters.DelegatingStoryReporter;
+import org.jbehave.core.reporters.NullStoryReporter;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.AbstractStepResult;
+import org.jbehave.core.steps.IndexedStepCandidates;
 import org.jbehave.core.steps.PendingStepMethodGenerator;
 import org.jbehave.core.steps.Step;
+import org.jbehave.core.steps.StepCandidate;
 import org.jbehave.core.steps.StepCollector;
 import org.jbehave.core.steps.StepCollector.Stage;
 import org.jbehave.core.steps.StepCreator.PendingStep;
 import org.jbehave.core.steps.StepCreator.StepExecutionType;
+import org.jbehave.core.steps.StepResolutionCache;
 import org.jbehave.core.steps.StepResult;
 import org.jbehave.core.steps.Timer;
 import org.jbehave.core.steps.Timing;
@@ -69,6 +79,7 @@ public class PerformableTree {
     private static final Map<String, String> NO_PARAMETERS = new HashMap<>();
 
     private PerformableRoot root = new PerformableRoot();
+    private volatile Map<String, ParsedStory> parsedStories;
 
     public PerformableRoot getRoot() {
         return root;
@@ -322,7 +333,38 @@ public class PerformableTree {
     }
 
     /**
-     * Returns the parsed story from the given path
+     * Enables a least-recently-used cache of the stories parsed by path, holding at most the given number of stories.
+     * A cached story is parsed again only if its text or the story parser have changed, so that a story given in many
+     * scenarios is parsed once. The parsed stories hold the examples tables, i.e. external tables and transformers
+     * are not evaluated again while a story is cached, and the same story instance is returned to all callers. The
+     * cache is meant to be scoped to a run of stories, cleared via {@link #clearParsedStoriesCache()} when the run
+     * ends.
+     *
+     * @param maxSize the maximum number of cached stories, a non-positive size disabling the cache
+     */
+    public void useParsedStoriesCache(final int maxSize) {
+        if (maxSize <= 0) {
+            this.parsedStories = null;
+            return;
+        }
+        this.parsedStories = Collections.synchronizedMap(new LinkedHashMap<String, ParsedStory>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ParsedStory> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Clears and disables the cache of the parsed stories, if enabled
+     */
+    public void clearParsedStoriesCache() {
+        this.parsedStories = null;
+    }
+
+    /**
+     * Returns the parsed story from the given path, from the cache of parsed stories if enabled via
+     * {@link #useParsedStoriesCache(int)}.
      * 
      * @param configuration the Configuration used to run story
      * @param storyPath the story path
@@ -330,7 +372,17 @@ public class PerformableTree {
      */
     public Story storyOfPath(Configuration configuration, String storyPath) {
         String storyAsText = configuration.storyLoader().loadStoryAsText(storyPath);
-        return configuration.storyParser().parseStory(storyAsText, storyPath);
+        StoryParser storyParser = configuration.storyParser();
+        Map<String, ParsedStory> cache = parsedStories;
+        if (cache == null) {
+            return storyParser.parseStory(storyAsText, storyPath);
+        }
+        ParsedStory parsedStory = cache.get(storyPath);
+        if (parsedStory == null || !parsedStory.isParsedFrom(storyParser, storyAsText)) {
+            parsedStory = new ParsedStory(storyParser, storyAsText, storyParser.parseStory(storyAsText, storyPath));
+            cache.put(storyPath, parsedStory);
+        }
+        return parsedStory.story;
     }
 
     /**
@@ -369,6 +421,25 @@ public class PerformableTree {
         RuntimeException getFailure();
     }
 
+    private static final class ParsedStory {
+        private final StoryParser storyParser;
+        private final String storyAsText;
+        private final int storyHash;
+        private final Story story;
+
+        private ParsedStory(StoryParser storyParser, String storyAsText, Story story) {
+            this.storyParser = storyParser;
+            this.storyAsText = storyAsText;
+            this.storyHash = storyAsText.hashCode();
+            this.story = story;
+        }
+
+        private boolean isParsedFrom(StoryParser storyParser, String storyAsText) {
+            return this.storyParser == storyParser && storyHash == storyAsText.hashCode()
+                    && this.storyAsText.equals(storyAsText);
+        }
+    }
+
     private static final class FineSoFar implements State {
 
         @Override
@@ -571,24 +642,38 @@ public class PerformableTree {
         private final boolean givenStory;
 
         private final AllStepCandidates allStepCandidates;
+        private final List<StepCandidate> regularSteps;
+        private final StepResolutionCache stepResolutionCache;
         private final EmbedderMonitor embedderMonitor;
         private final MetaFilter filter;
         private final BatchFailures failures;
         private final StepsContext stepsContext;
-        private final Map<Story, StoryDuration> cancelledStories = new HashMap<>();
-        private final Map<String, List<PendingStep>> pendingStories = new HashMap<>();
+        private final Map<Story, StoryDuration> cancelledStories = new ConcurrentHashMap<>();
+        private final Map<String, List<PendingStep>> pendingStories = new ConcurrentHashMap<>();
         private final ThreadLocal<StoryRunContext> storyRunContext = ThreadLocal.withInitial(StoryRunContext::new);
+        private ExecutorService executorService;
 
         public RunContext(Configuration configuration, AllStepCandidates allStepCandidates,
                 EmbedderMonitor embedderMonitor, MetaFilter filter, BatchFailures failures) {
-            this(configuration, allStepCandidates, embedderMonitor, filter, failures, false);
+            this(configuration, allStepCandidates, new StepResolutionCache(), embedderMonitor, filter, failures);
+        }
+
+        private RunContext(Configuration configuration, AllStepCandidates allStepCandidates,
+                StepResolutionCache stepResolutionCache, EmbedderMonitor embedderMonitor, MetaFilter filter,
+                BatchFailures failures) {
+            this(configuration, allStepCandidates,
+                    resolvingSteps(allStepCandidates.getRegularSteps(), stepResolutionCache), stepResolutionCache,
+                    embedderMonitor, filter, failures, false);
         }
 
         private RunContext(Configuration configuration, AllStepCandidates allStepCandidates,
+                List<StepCandidate> regularSteps, StepResolutionCache stepResolutionCache,
                 EmbedderMonitor embedderMonitor, MetaFilter filter, BatchFailures failures, boolean givenStory) {
             this.configuration = configuration;
             this.givenStory = givenStory;
             this.allStepCandidates = allStepCandidates;
+            this.regularSteps = regularSteps;
+            this.stepResolutionCache = stepResolutionCache;
             this.embedderMonitor = embedderMonitor;
             this.filter = filter;
             this.failures = failures;
@@ -596,10 +681,36 @@ public class PerformableTree {
             resetState();
         }
 
+        private static List<StepCandidate> resolvingSteps(List<StepCandidate> regularSteps,
+                StepResolutionCache stepResolutionCache) {
+            if (regularSteps instanceof IndexedStepCandidates) {
+                return ((IndexedStepCandidates) regularSteps).withResolutionCache(stepResolutionCache);
+            }
+            return regularSteps;
+        }
+
         public StepsContext stepsContext() {
             return stepsContext;
         }
 
+        public StepResolutionCache stepResolutionCache() {
+            return stepResolutionCache;
+        }
+
+        /**
+         * Uses the executor service running the stories to also perform concurrently the examples of the scenarios
+         * opting in via the {@link PerformableScenario#PARALLEL_EXAMPLES} meta property
+         *
+         * @param executorService the ExecutorService
+         */
+        public void useExecutorService(ExecutorService executorService) {
+            this.executorService = executorService;
+        }
+
+        public ExecutorService executorService() {
+            return executorService;
+        }
+
         public boolean restartScenario() {
             Throwable cause = failure(state());
             while (cause != null) {
@@ -693,7 +804,7 @@ public class PerformableTree {
                 Map<String, String> parameters) {
             MatchingStepMonitor monitor = new MatchingStepMonitor(configuration.stepMonitor());
             Map<Stage, List<Step>> steps = configuration.stepCollector().collectLifecycleSteps(
-                    allStepCandidates.getRegularSteps(), lifecycle, meta, scope, parameters, monitor);
+                    regularSteps, lifecycle, meta, scope, parameters, monitor);
             Map<Stage, PerformableSteps> performableSteps = new EnumMap<>(Stage.class);
             for (Map.Entry<Stage, List<Step>> entry : steps.entrySet()) {
                 performableSteps.put(entry.getKey(), new PerformableSteps(entry.getValue(), monitor.matched()));
@@ -706,9 +817,9 @@ public class PerformableTree {
             MatchingStepMonitor monitor = new MatchingStepMonitor(configuration.stepMonitor());
             StepCollector stepCollector = configuration.stepCollector();
             Map<Stage, List<Step>> beforeOrAfterStepSteps = stepCollector.collectLifecycleSteps(
-                    allStepCandidates.getRegularSteps(), lifecycle, meta, Scope.STEP, parameters, monitor);
+                    regularSteps, lifecycle, meta, Scope.STEP, parameters, monitor);
             List<Step> steps = new LinkedList<>();
-            for (Step step : stepCollector.collectScenarioSteps(allStepCandidates.getRegularSteps(), scenario,
+            for (Step step : stepCollector.collectScenarioSteps(regularSteps, scenario,
                     parameters, monitor)) {
                 steps.addAll(beforeOrAfterStepSteps.get(Stage.BEFORE));
                 steps.add(step);
@@ -718,12 +829,95 @@ public class PerformableTree {
         }
 
         public RunContext childContextFor(GivenStory givenStory) {
-            RunContext child = new RunContext(configuration, allStepCandidates, embedderMonitor, filter,
-                    failures, true);
+            RunContext child = new RunContext(configuration, allStepCandidates, regularSteps, stepResolutionCache,
+                    embedderMonitor, filter, failures, true);
             child.currentRunContext().pathIs(configuration.pathCalculator().calculate(path(), givenStory.getPath()));
+            child.executorService = executorService;
             return child;
         }
 
+        /**
+         * Performs the examples concurrently on the executor service, with the current thread performing its share of
+         * the examples so that the examples are always performed even if the executor has no thread available. Each
+         * example is performed with its own state and steps context objects, while its reporting is journaled and
+         * replayed, once all the examples are performed, in the order of the examples.
+         */
+        private void performConcurrently(List<ExamplePerformableScenario> examples, int helpers)
+                throws InterruptedException {
+            int size = examples.size();
+            AbstractPerformableScenario first = examples.get(0);
+            first.resetStateIfConfigured(this);
+            StoryRunContext parent = currentRunContext();
+            StoryControls storyControls = configuration.storyControls().currentStoryControls();
+            StepsContext.ConcurrentExamples concurrentExamples = stepsContext.concurrentExamples();
+            Thread parentThread = Thread.currentThread();
+            ConcurrentStoryReporter[] reporters = new ConcurrentStoryReporter[size];
+            State[] states = new State[size];
+            Throwable[] failures = new Throwable[size];
+            AtomicInteger next = new AtomicInteger();
+            CountDownLatch performed = new CountDownLatch(size);
+            Runnable performer = () -> {
+                int index;
+                while ((index = next.getAndIncrement()) < size) {
+                    StoryRunContext example = new StoryRunContext();
+                    example.pathIs(parent.path());
+                    example.resetState();
+                    reporters[index] = new ConcurrentStoryReporter(new NullStoryReporter(),
+                            Collections.singletonList(new DelegatingStoryReporter(parent.reporter())), true);
+                    example.reporterIs(reporters[index]);
+                    StoryRunContext previous = storyRunContext.get();
+                    storyRunContext.set(example);
+                    if (Thread.currentThread() != parentThread) {
+                        configuration.storyControls().useCurrentStoryControls(storyControls);
+                    }
+                    ExamplePerformableScenario exampleScenario = examples.get(index);
+                    int performing = index;
+                    try {
+                        concurrentExamples.perform(() -> {
+                            try {
+                                exampleScenario.perform(this);
+                            } catch (Throwable e) {
+                                failures[performing] = e;
+                            }
+                        });
+                    } finally {
+                        states[index] = example.state();
+                        storyRunContext.set(previous);
+                        if (Thread.currentThread() != parentThread) {
+                            configuration.storyControls().resetCurrentStoryControls();
+                        }
+                        performed.countDown();
+                    }
+                }
+            };
+            List<Future<?>> helping = new ArrayList<>();
+            for (int i = 0; i < Math.min(helpers, size - 1); i++) {
+                helping.add(executorService.submit(performer));
+            }
+            try {
+                performer.run();
+                performed.await();
+            } finally {
+                helping.forEach(future -> future.cancel(performed.getCount() > 0));
+            }
+            for (int i = 0; i < size; i++) {
+                reporters[i].invokeDelayed();
+                if (i < size - 1) {
+                    addFailure(first.story, failure(states[i]));
+                }
+            }
+            stateIs(states[size - 1]);
+            for (Throwable failure : failures) {
+                if (failure instanceof InterruptedException) {
+                    throw (InterruptedException) failure;
+                } else if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                } else if (failure instanceof Error) {
+                    throw (Error) failure;
+                }
+            }
+        }
+
         public void cancelStory(Story story, StoryDuration storyDuration) {
             cancelledStories.put(story, storyDuration);
         }
@@ -1140,6 +1334,12 @@ public class PerformableTree {
 
     public static class PerformableScenario implements Performable {
 
+        /**
+         * The scenario meta property opting in to perform the examples concurrently, whose optional value is the
+         * maximum number of threads of the story executor helping to perform them.
+         */
+        public static final String PARALLEL_EXAMPLES = "parallelExamples";
+
         private final Scenario scenario;
         private final String storyPath;
         private boolean excluded;
@@ -1229,8 +1429,13 @@ public class PerformableTree {
                 if (hasExamples()) {
                     context.reporter().beforeExamples(scenario.getSteps(),
                             scenario.getExamplesTable());
-                    for (ExamplePerformableScenario exampleScenario : exampleScenarios) {
-                        exampleScenario.perform(context);
+                    int helpers = parallelExampleHelpers(context);
+                    if (helpers > 0) {
+                        context.performConcurrently(exampleScenarios, helpers);
+                    } else {
+                        for (ExamplePerformableScenario exampleScenario : exampleScenarios) {
+                            exampleScenario.perform(context);
+                        }
                     }
                     context.reporter().afterExamples();
                 } else {
@@ -1244,6 +1449,18 @@ public class PerformableTree {
             }
         }
 
+        private int parallelExampleHelpers(RunContext context) {
+            Meta meta = scenario.getMeta();
+            if (!meta.hasProperty(PARALLEL_EXAMPLES) || context.executorService() == null
+                    || exampleScenarios.size() < 2 || !context.configuration().storyControls()
+                    .resetStateBeforeScenario()) {
+                return 0;
+            }
+            String threads = meta.getProperty(PARALLEL_EXAMPLES).trim();
+            return StringUtils.isNumeric(threads) && !threads.isEmpty() ? Integer.parseInt(threads)
+                    : exampleScenarios.size() - 1;
+        }
+
         @Override
         public void reportFailures(FailureContext context) {
             if (hasExamples()) {
@@ -188,6 +188,17 @@ public abstract class PrintingEmbedderMonitor implements EmbedderMonitor {
         print("Using timeout for story %s of %d secs.", path, timeout);
     }
 
+    @Override
+    public void stepsResolved(long cacheHits, long cacheMisses) {
+        print("Resolved steps with %d cache hits and %d cache misses", cacheHits, cacheMisses);
+    }
+
+    @Override
+    public void storiesScheduledByDuration(long predictedMakespanInMillis, long actualMakespanInMillis) {
+        print("Scheduled stories by duration with predicted makespan of %d ms and actual makespan of %d ms",
+                predictedMakespanInMillis, actualMakespanInMillis);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
@@ -17,6 +17,11 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
     public static final String STORY_TIMEOUT_IN_SECS_BY_PATH = "STORY_TIMEOUT_IN_SECS_BY_PATH";
     public static final String FAIL_ON_STORY_TIMEOUT = "FAIL_ON_STORY_TIMEOUT";
     public static final String THREADS = "THREADS";
+    public static final String SCHEDULE_BY_DURATION = "SCHEDULE_BY_DURATION";
+    public static final String LOAD_STORIES_IN_PARALLEL = "LOAD_STORIES_IN_PARALLEL";
+    public static final String REUSE_EXECUTOR_SERVICE = "REUSE_EXECUTOR_SERVICE";
+    public static final String EMBEDDABLES_THREADS = "EMBEDDABLES_THREADS";
+    public static final String PARSED_STORIES_CACHE_SIZE = "PARSED_STORIES_CACHE_SIZE";
 
     @Override
     public boolean batch() {
@@ -67,6 +72,31 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
     public int threads() {
         return propertyAs(THREADS, Integer.class, super.threads()); 
     }
+
+    @Override
+    public boolean scheduleByDuration() {
+        return propertyAs(SCHEDULE_BY_DURATION, Boolean.class, super.scheduleByDuration());
+    }
+
+    @Override
+    public boolean loadStoriesInParallel() {
+        return propertyAs(LOAD_STORIES_IN_PARALLEL, Boolean.class, super.loadStoriesInParallel());
+    }
+
+    @Override
+    public boolean reuseExecutorService() {
+        return propertyAs(REUSE_EXECUTOR_SERVICE, Boolean.class, super.reuseExecutorService());
+    }
+
+    @Override
+    public int embeddablesThreads() {
+        return propertyAs(EMBEDDABLES_THREADS, Integer.class, super.embeddablesThreads());
+    }
+
+    @Override
+    public int parsedStoriesCacheSize() {
+        return propertyAs(PARSED_STORIES_CACHE_SIZE, Integer.class, super.parsedStoriesCacheSize());
+    }
    
     @SuppressWarnings("unchecked")
     private <T> T propertyAs(String name, Class<T> type, T defaultValue) {
@@ -103,6 +133,11 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
         .append("verboseFiltering", verboseFiltering())
         .append("storyTimeouts", storyTimeouts())
         .append("threads", threads())
+        .append("scheduleByDuration", scheduleByDuration())
+        .append("loadStoriesInParallel", loadStoriesInParallel())
+        .append("reuseExecutorService", reuseExecutorService())
+        .append("embeddablesThreads", embeddablesThreads())
+        .append("parsedStoriesCacheSize", parsedStoriesCacheSize())
         .toString();        
     }
 
@@ -0,0 +1,37 @@
+package org.jbehave.core.embedder;
+
+import org.jbehave.core.condition.StepConditionMatcher;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.steps.CandidateSteps;
+import org.jbehave.core.steps.InjectableStepsFactory;
+
+/**
+ * Holds the {@link AllStepCandidates} created from the {@link CandidateSteps} of a steps factory, so that repeated
+ * runs of stories share them rather than discovering the steps again. The step candidates are created again only if
+ * the {@link StepConditionMatcher} of the configuration has changed or once {@link #invalidate() invalidated}, e.g.
+ * after the steps classes or the composite steps have been modified.
+ */
+public class StepCandidatesRegistry {
+
+    private final InjectableStepsFactory stepsFactory;
+    private AllStepCandidates allStepCandidates;
+    private StepConditionMatcher stepConditionMatcher;
+
+    public StepCandidatesRegistry(InjectableStepsFactory stepsFactory) {
+        this.stepsFactory = stepsFactory;
+    }
+
+    public synchronized AllStepCandidates allStepCandidates(Configuration configuration) {
+        StepConditionMatcher matcher = configuration.stepConditionMatcher();
+        if (allStepCandidates == null || stepConditionMatcher != matcher) {
+            allStepCandidates = new AllStepCandidates(matcher, stepsFactory.createCandidateSteps());
+            stepConditionMatcher = matcher;
+        }
+        return allStepCandidates;
+    }
+
+    public synchronized void invalidate() {
+        allStepCandidates = null;
+        stepConditionMatcher = null;
+    }
+}
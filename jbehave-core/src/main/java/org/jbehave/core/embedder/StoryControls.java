@@ -69,6 +69,10 @@ public class StoryControls {
         currentStoryControls.remove();
     }
 
+    void useCurrentStoryControls(StoryControls storyControls) {
+        currentStoryControls.set(storyControls);
+    }
+
     public boolean skipScenariosAfterFailure() {
         return currentStoryControls().skipScenariosAfterFailure;
     }
@@ -7,13 +7,20 @@ import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.embedder.PerformableTree.PerformableRoot;
@@ -24,34 +31,52 @@ import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
 import org.jbehave.core.steps.InjectableStepsFactory;
 import org.jbehave.core.steps.StepCollector.Stage;
+import org.jbehave.core.steps.StepResolutionCache;
 
 /**
  * Manages the execution and outcomes of running stories. While each story is
  * run by the {@link PerformableTree}, the manager is responsible for the concurrent
  * submission and monitoring of their execution via the {@link ExecutorService}.
+ * The monitoring is driven by the events published by the running stories as they start and finish, while the
+ * story timeouts are checked by a scheduled timer rather than by polling.
+ * If {@link EmbedderControls#scheduleByDuration()} is enabled, the stories are submitted longest-first, as scheduled
+ * by the {@link StoryScheduler} from the story durations of the previous run.
  */
 public class StoryManager {
 
+    private static final long COMPLETION_CHECK_INTERVAL_IN_MILLIS = 1000;
+    private static final String STORY_DURATIONS = "storyDurations.props";
+
     private final Configuration configuration;
     private final EmbedderControls embedderControls;
     private final EmbedderMonitor embedderMonitor;
     private final ExecutorService executorService;
-    private final InjectableStepsFactory stepsFactory;
+    private final StepCandidatesRegistry stepCandidatesRegistry;
     private final PerformableTree performableTree;
     private final Map<String, RunningStory> runningStories = new HashMap<>();
     private final Map<MetaFilter, List<Story>> excludedStories = new HashMap<>();
+    private final BlockingQueue<StoryEvent> storyEvents = new LinkedBlockingQueue<>();
     private RunContext context;
     private StoryTimeouts timeouts;
+    private long completionCheckIntervalInMillis = COMPLETION_CHECK_INTERVAL_IN_MILLIS;
     
     public StoryManager(Configuration configuration,
             InjectableStepsFactory stepsFactory,
             EmbedderControls embedderControls, EmbedderMonitor embedderMonitor,
             ExecutorService executorService, PerformableTree performableTree, TimeoutParser... parsers) {
+        this(configuration, new StepCandidatesRegistry(stepsFactory), embedderControls, embedderMonitor,
+                executorService, performableTree, parsers);
+    }
+
+    public StoryManager(Configuration configuration,
+            StepCandidatesRegistry stepCandidatesRegistry,
+            EmbedderControls embedderControls, EmbedderMonitor embedderMonitor,
+            ExecutorService executorService, PerformableTree performableTree, TimeoutParser... parsers) {
         this.configuration = configuration;
         this.embedderControls = embedderControls;
         this.embedderMonitor = embedderMonitor;
         this.executorService = executorService;
-        this.stepsFactory = stepsFactory;
+        this.stepCandidatesRegistry = stepCandidatesRegistry;
         this.performableTree = performableTree;
         this.timeouts = new StoryTimeouts(embedderControls, embedderMonitor);
         this.timeouts.withParsers(parsers);
@@ -62,9 +87,14 @@ public class StoryManager {
     }
 
     public List<Story> storiesOfPaths(List<String> storyPaths) {
-        List<Story> stories = new ArrayList<>(storyPaths.size());
-        for (String storyPath : storyPaths) {
-            stories.add(storyOfPath(storyPath));
+        List<Story> stories;
+        if (embedderControls.loadStoriesInParallel() && embedderControls.threads() > 1 && storyPaths.size() > 1) {
+            stories = loadStoriesInParallel(storyPaths);
+        } else {
+            stories = new ArrayList<>(storyPaths.size());
+            for (String storyPath : storyPaths) {
+                stories.add(storyOfPath(storyPath));
+            }
         }
         if (configuration.isParallelStoryExamplesEnabled()) {
             StorySplitter storySplitter = new StorySplitter(configuration.storyControls().storyIndexFormat());
@@ -73,6 +103,44 @@ public class StoryManager {
         return stories;
     }
 
+    /**
+     * Loads and parses the stories using the executor service, which is otherwise idle until the stories are run,
+     * keeping the stories in the order of their paths
+     */
+    private List<Story> loadStoriesInParallel(List<String> storyPaths) {
+        List<Future<Story>> loadedStories = new ArrayList<>(storyPaths.size());
+        for (String storyPath : storyPaths) {
+            loadedStories.add(executorService.submit(() -> storyOfPath(storyPath)));
+        }
+        List<Story> stories = new ArrayList<>(storyPaths.size());
+        try {
+            for (int i = 0; i < loadedStories.size(); i++) {
+                stories.add(loadedStory(storyPaths.get(i), loadedStories.get(i)));
+            }
+        } finally {
+            loadedStories.forEach(loadedStory -> loadedStory.cancel(true));
+        }
+        return stories;
+    }
+
+    private Story loadedStory(String storyPath, Future<Story> loadedStory) {
+        try {
+            return loadedStory.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StoryLoadingFailed(storyPath, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new StoryLoadingFailed(storyPath, cause);
+        }
+    }
+
     public Story storyOfText(String storyAsText, String storyId) {
         return performableTree.storyOfText(configuration, storyAsText, storyId);
     }
@@ -101,9 +169,9 @@ public class StoryManager {
     public void runStories(List<Story> stories, MetaFilter filter,
             BatchFailures failures) {
         // create new run context
-        AllStepCandidates allStepCandidates = new AllStepCandidates(configuration.stepConditionMatcher(),
-                stepsFactory.createCandidateSteps());
+        AllStepCandidates allStepCandidates = stepCandidatesRegistry.allStepCandidates(configuration);
         context = performableTree.newRunContext(configuration, allStepCandidates, embedderMonitor, filter, failures);
+        context.useExecutorService(executorService);
 
         // add stories
         performableTree.addStories(context, stories);
@@ -114,12 +182,27 @@ public class StoryManager {
         // collect failures
         failures.putAll(context.getFailures());
 
+        // report step resolutions
+        StepResolutionCache stepResolutionCache = context.stepResolutionCache();
+        embedderMonitor.stepsResolved(stepResolutionCache.hits(), stepResolutionCache.misses());
+
     }
 
-    private void runStories(RunContext context, List<Story> stories) {
-        stories.stream()
+    private List<Story> runStories(RunContext context, List<Story> stories, StoryScheduler scheduler) {
+        storyEvents.clear();
+        List<Story> ordered = stories.stream()
                 .sorted(configuration.storyExecutionComparator())
-                .forEach(story -> filterRunning(context, story));
+                .collect(Collectors.toList());
+        if (scheduler != null) {
+            ordered = scheduler.schedule(ordered);
+        }
+        List<Story> running = new ArrayList<>(ordered.size());
+        for (Story story : ordered) {
+            if (filterRunning(context, story)) {
+                running.add(story);
+            }
+        }
+        return running;
     }
 
     private void performStories(RunContext context,
@@ -128,8 +211,16 @@ public class StoryManager {
         performableTree.performBeforeOrAfterStories(context, Stage.BEFORE);
 
         // run stories
-        runStories(context, stories);
+        StoryScheduler scheduler = embedderControls.scheduleByDuration() ? StoryScheduler.fromDurationsIn(
+                configuration.storyReporterBuilder().outputDirectory(), STORY_DURATIONS, embedderControls.threads())
+                : null;
+        long startedAtMillis = System.currentTimeMillis();
+        List<Story> running = runStories(context, stories, scheduler);
         waitUntilAllDoneOrFailed(context);
+        if (scheduler != null) {
+            embedderMonitor.storiesScheduledByDuration(scheduler.predictedMakespan(running),
+                    System.currentTimeMillis() - startedAtMillis);
+        }
         MetaFilter filter = context.filter();
         List<Story> excluded = excludedBy(filter);
         if (!excluded.isEmpty()) {
@@ -141,12 +232,13 @@ public class StoryManager {
         performableTree.performBeforeOrAfterStories(context, Stage.AFTER);
     }
 
-    private void filterRunning(RunContext context, Story story) {
+    private boolean filterRunning(RunContext context, Story story) {
         if (context.filter(story).excluded()) {
             excludedBy(context.getFilter()).add(story);
-        } else {
-            runningStories.put(story.getPath(), runningStory(story));
+            return false;
         }
+        runningStories.put(story.getPath(), runningStory(story));
+        return true;
     }
 
     public List<Story> excludedBy(MetaFilter filter) {
@@ -160,68 +252,129 @@ public class StoryManager {
 
     public RunningStory runningStory(Story story) {
         return submit(new EnqueuedStory(performableTree, context,
-                embedderControls, embedderMonitor, story, timeouts));
+                embedderControls, embedderMonitor, story, timeouts, storyEvents));
+    }
+
+    /**
+     * Sets the interval after which the completion of the stories is checked if no story event is received
+     */
+    void useCompletionCheckInterval(long completionCheckIntervalInMillis) {
+        this.completionCheckIntervalInMillis = completionCheckIntervalInMillis;
     }
 
     public void waitUntilAllDoneOrFailed(RunContext context) {
         if (runningStories.values().isEmpty()) {
             return;
         }
-        boolean allDone = false;
-        boolean started = false;
-        while (!allDone || !started) {
-            allDone = true;
-            for (RunningStory runningStory : runningStories.values()) {
-                if (runningStory.isStarted()) {
-                    started = true;
-                    Story story = runningStory.getStory();
-                    Future<ThrowableStory> future = runningStory.getFuture();
-                    if (!future.isDone()) {
-                        allDone = false;
-                        StoryDuration duration = runningStory.getDuration();
-                        runningStory.updateDuration();
-                        if (context.isCancelled(story)) {
-                            if (duration.cancelTimedOut()) {
-                                future.cancel(true);
-                            }
-                            continue;
-                        }
-                        if (duration.timedOut()) {
-                            embedderMonitor.storyTimeout(story, duration);
-                            context.cancelStory(story, duration);
-                            if (embedderControls.failOnStoryTimeout()) {
-                                throw new StoryExecutionFailed(story.getPath(),
-                                        new StoryTimedOut(duration));
-                            }
-                            continue;
-                        }
-                    } else {
-                        try {
-                            ThrowableStory throwableStory = future.get();
-                            Throwable throwable = throwableStory.getThrowable();
-                            if (throwable != null) {
-                                context.addFailure(story, throwable);
-                                if (!embedderControls.ignoreFailureInStories()) {
-                                    continue;
-                                }
-                            }
-                        } catch (Throwable e) {
-                            context.addFailure(story, e);
-                            if (!embedderControls.ignoreFailureInStories()) {
-                                continue;
-                            }
-                        }
-                    }
-                } else {
-                    started = false;
-                    allDone = false;
+        Map<String, RunningStory> pendingStories = new HashMap<>();
+        for (RunningStory runningStory : runningStories.values()) {
+            if (runningStory.isDone()) {
+                collectOutcome(context, runningStory);
+            } else {
+                pendingStories.put(runningStory.getStory().getPath(), runningStory);
+            }
+        }
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jbehave-story-timeouts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            while (!pendingStories.isEmpty()) {
+                StoryEvent event = storyEvents.poll(completionCheckIntervalInMillis, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    // safety net for executors completing futures without running the enqueued story
+                    collectCompleted(context, pendingStories);
+                    continue;
+                }
+                RunningStory runningStory = pendingStories.get(event.getPath());
+                if (runningStory == null) {
+                    continue;
+                }
+                switch (event.getType()) {
+                    case STARTED:
+                        scheduleTimeoutCheck(timer, runningStory, runningStory.getDuration().millisToTimeout());
+                        break;
+                    case TIMEOUT_CHECK:
+                        checkTimeout(context, timer, pendingStories, runningStory);
+                        break;
+                    case FINISHED:
+                    default:
+                        pendingStories.remove(event.getPath());
+                        collectOutcome(context, runningStory);
+                        break;
                 }
             }
-            tickTock();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            timer.shutdownNow();
         }
         writeStoryDurations(runningStories.values());
     }
 
+    private void collectCompleted(RunContext context, Map<String, RunningStory> pendingStories) {
+        Iterator<RunningStory> iterator = pendingStories.values().iterator();
+        while (iterator.hasNext()) {
+            RunningStory runningStory = iterator.next();
+            if (runningStory.isDone()) {
+                iterator.remove();
+                collectOutcome(context, runningStory);
+            }
+        }
+    }
+
+    private void checkTimeout(RunContext context, ScheduledExecutorService timer,
+            Map<String, RunningStory> pendingStories, RunningStory runningStory) {
+        Story story = runningStory.getStory();
+        StoryDuration duration = runningStory.getDuration();
+        runningStory.updateDuration();
+        if (context.isCancelled(story)) {
+            if (duration.cancelTimedOut()) {
+                runningStory.getFuture().cancel(true);
+                pendingStories.remove(story.getPath());
+                collectOutcome(context, runningStory);
+            } else {
+                scheduleTimeoutCheck(timer, runningStory, duration.millisToCancelTimeout());
+            }
+        } else if (duration.timedOut()) {
+            embedderMonitor.storyTimeout(story, duration);
+            context.cancelStory(story, duration);
+            if (embedderControls.failOnStoryTimeout()) {
+                throw new StoryExecutionFailed(story.getPath(), new StoryTimedOut(duration));
+            }
+            scheduleTimeoutCheck(timer, runningStory, duration.millisToCancelTimeout());
+        } else {
+            scheduleTimeoutCheck(timer, runningStory, duration.millisToTimeout());
+        }
+    }
+
+    private void scheduleTimeoutCheck(ScheduledExecutorService timer, RunningStory runningStory, long delayInMillis) {
+        if (runningStory.getDuration().getTimeoutInSecs() == 0) {
+            return;
+        }
+        StoryEvent event = new StoryEvent(StoryEvent.Type.TIMEOUT_CHECK, runningStory.getStory().getPath());
+        timer.schedule(() -> storyEvents.offer(event), delayInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void collectOutcome(RunContext context, RunningStory runningStory) {
+        if (runningStory.isStarted()) {
+            runningStory.updateDuration();
+        }
+        Story story = runningStory.getStory();
+        try {
+            ThrowableStory throwableStory = runningStory.getFuture().get();
+            Throwable throwable = throwableStory.getThrowable();
+            if (throwable != null) {
+                context.addFailure(story, throwable);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            context.addFailure(story, e);
+        }
+    }
+
     protected void writeStoryDurations(Collection<RunningStory> runningStories) {
         // collect story durations and cancel any outstanding execution which is
         // not done before returning
@@ -243,7 +396,7 @@ public class StoryManager {
         storyDurations.setProperty("threads", Long.toString(threads));
         storyDurations.setProperty("threadAverage",
                 Long.toString(threadAverage));
-        write(storyDurations, "storyDurations.props");
+        write(storyDurations, STORY_DURATIONS);
     }
 
     private void write(Properties p, String name) {
@@ -259,14 +412,6 @@ public class StoryManager {
         }
     }
 
-    private void tickTock() {
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            // swallow exception quietly
-        }
-    }
-
     private synchronized RunningStory submit(EnqueuedStory enqueuedStory) {
         return new RunningStory(enqueuedStory, executorService.submit(enqueuedStory));
     }
@@ -279,23 +424,28 @@ public class StoryManager {
         private final EmbedderMonitor embedderMonitor;
         private final Story story;
         private final StoryTimeouts timeouts;
-        private long startedAtMillis;
+        private final BlockingQueue<StoryEvent> storyEvents;
+        private volatile long startedAtMillis;
+        private volatile long finishedAtMillis;
 
         public EnqueuedStory(PerformableTree performableTree,
                 RunContext context, EmbedderControls embedderControls,
-                EmbedderMonitor embedderMonitor, Story story, StoryTimeouts timeouts) {
+                EmbedderMonitor embedderMonitor, Story story, StoryTimeouts timeouts,
+                BlockingQueue<StoryEvent> storyEvents) {
             this.performableTree = performableTree;
             this.context = context;
             this.embedderControls = embedderControls;
             this.embedderMonitor = embedderMonitor;
             this.story = story;
             this.timeouts = timeouts;
+            this.storyEvents = storyEvents;
         }
 
         @Override
         public ThrowableStory call() {
             startedAtMillis = System.currentTimeMillis();
             String storyPath = story.getPath();
+            storyEvents.offer(new StoryEvent(StoryEvent.Type.STARTED, storyPath));
             try {
                 embedderMonitor.runningStory(storyPath);
                 performableTree.perform(context, story);
@@ -306,6 +456,9 @@ public class StoryManager {
                     return new ThrowableStory(story, new StoryExecutionFailed(
                             storyPath, e));
                 }
+            } finally {
+                finishedAtMillis = System.currentTimeMillis();
+                storyEvents.offer(new StoryEvent(StoryEvent.Type.FINISHED, storyPath));
             }
             return new ThrowableStory(story, null);
         }
@@ -318,12 +471,39 @@ public class StoryManager {
             return startedAtMillis;
         }
 
+        public long getFinishedAtMillis() {
+            return finishedAtMillis;
+        }
+
         public long getTimeoutInSecs() {
             return timeouts.getTimeoutInSecs(story);
         }
 
     }
 
+    static class StoryEvent {
+
+        enum Type {
+            STARTED, TIMEOUT_CHECK, FINISHED
+        }
+
+        private final Type type;
+        private final String path;
+
+        StoryEvent(Type type, String path) {
+            this.type = type;
+            this.path = path;
+        }
+
+        Type getType() {
+            return type;
+        }
+
+        String getPath() {
+            return path;
+        }
+    }
+
     @SuppressWarnings("serial")
     public static class StoryExecutionFailed extends RuntimeException {
 
@@ -333,6 +513,15 @@ public class StoryManager {
 
     }
 
+    @SuppressWarnings("serial")
+    public static class StoryLoadingFailed extends RuntimeException {
+
+        public StoryLoadingFailed(String storyPath, Throwable failure) {
+            super(storyPath, failure);
+        }
+
+    }
+
     @SuppressWarnings("serial")
     public static class StoryTimedOut extends RuntimeException {
 
@@ -384,7 +573,7 @@ public class StoryManager {
             if (duration == null) {
                 return 0;
             }
-            return duration.getDurationInSecs() * 1000;
+            return duration.getDurationInMillis();
         }
 
         public StoryDuration getDuration() {
@@ -394,8 +583,16 @@ public class StoryManager {
             return duration;
         }
 
+        /**
+         * Updates the duration of the story up to the time it finished, or up to now if it has not finished yet
+         */
         public void updateDuration() {
-            duration.update();
+            long finishedAtMillis = enqueuedStory.getFinishedAtMillis();
+            if (finishedAtMillis != 0) {
+                getDuration().updateTo(finishedAtMillis);
+            } else {
+                getDuration().update();
+            }
         }
 
         public boolean isDone() {
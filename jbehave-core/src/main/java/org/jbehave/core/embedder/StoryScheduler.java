@@ -0,0 +1,124 @@
+package org.jbehave.core.embedder;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Properties;
+
+import org.jbehave.core.model.Story;
+
+/**
+ * Schedules the stories longest-first, using the durations of a previous run, so that the long stories do not start
+ * late and leave most threads idle at the end of the run. Submitted in this order to the threads, the stories run in a
+ * longest-processing-time-first list schedule, whose makespan, i.e. the total elapsed time, can be predicted from the
+ * same durations. Stories with no previous duration are assumed to last as long as the average story.
+ */
+public class StoryScheduler {
+
+    private final Properties durations;
+    private final int threads;
+
+    public StoryScheduler(Properties durations, int threads) {
+        this.durations = durations;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Creates a scheduler using the story durations written by a previous run in the given directory, if any
+     *
+     * @param directory the directory of the story durations
+     * @param name the name of the story durations file
+     * @param threads the number of threads running the stories
+     * @return The StoryScheduler
+     */
+    public static StoryScheduler fromDurationsIn(File directory, String name, int threads) {
+        Properties durations = new Properties();
+        File file = new File(directory, name);
+        if (file.exists()) {
+            try (Reader reader = new FileReader(file)) {
+                durations.load(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                durations.clear();
+            }
+        }
+        return new StoryScheduler(durations, threads);
+    }
+
+    /**
+     * Orders the stories by decreasing expected duration, keeping the given order of stories of equal duration
+     *
+     * @param stories the stories to schedule
+     * @return The scheduled stories
+     */
+    public List<Story> schedule(List<Story> stories) {
+        long[] expected = expectedDurations(stories);
+        List<Integer> indices = new ArrayList<>(stories.size());
+        for (int i = 0; i < stories.size(); i++) {
+            indices.add(i);
+        }
+        indices.sort(Comparator.comparingLong((Integer i) -> expected[i]).reversed());
+        List<Story> scheduled = new ArrayList<>(stories.size());
+        for (int i : indices) {
+            scheduled.add(stories.get(i));
+        }
+        return scheduled;
+    }
+
+    /**
+     * Predicts the makespan of the stories, assigned in the given order to the first available thread
+     *
+     * @param stories the stories in order of submission
+     * @return The predicted makespan in millis
+     */
+    public long predictedMakespan(List<Story> stories) {
+        PriorityQueue<Long> threadLoads = new PriorityQueue<>();
+        for (int i = 0; i < threads; i++) {
+            threadLoads.add(0L);
+        }
+        long makespan = 0;
+        for (long duration : expectedDurations(stories)) {
+            long load = threadLoads.poll() + duration;
+            makespan = Math.max(makespan, load);
+            threadLoads.add(load);
+        }
+        return makespan;
+    }
+
+    private long[] expectedDurations(List<Story> stories) {
+        long[] expected = new long[stories.size()];
+        long total = 0;
+        int known = 0;
+        for (int i = 0; i < stories.size(); i++) {
+            expected[i] = durationOf(stories.get(i));
+            if (expected[i] >= 0) {
+                total += expected[i];
+                known++;
+            }
+        }
+        long average = known > 0 ? total / known : 0;
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] < 0) {
+                expected[i] = average;
+            }
+        }
+        return expected;
+    }
+
+    private long durationOf(Story story) {
+        String duration = durations.getProperty(story.getPath());
+        if (duration == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(duration.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+}
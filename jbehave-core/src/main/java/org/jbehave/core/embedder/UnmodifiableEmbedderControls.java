@@ -61,6 +61,31 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         return delegate.threads();
     }
 
+    @Override
+    public boolean scheduleByDuration() {
+        return delegate.scheduleByDuration();
+    }
+
+    @Override
+    public boolean loadStoriesInParallel() {
+        return delegate.loadStoriesInParallel();
+    }
+
+    @Override
+    public boolean reuseExecutorService() {
+        return delegate.reuseExecutorService();
+    }
+
+    @Override
+    public int embeddablesThreads() {
+        return delegate.embeddablesThreads();
+    }
+
+    @Override
+    public int parsedStoriesCacheSize() {
+        return delegate.parsedStoriesCacheSize();
+    }
+
     @Override
     public EmbedderControls doBatch(boolean batch) {
         throw notAllowed();
@@ -101,6 +126,31 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         throw notAllowed();
     }
 
+    @Override
+    public EmbedderControls doScheduleByDuration(boolean scheduleByDuration) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls doLoadStoriesInParallel(boolean loadStoriesInParallel) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls doReuseExecutorService(boolean reuseExecutorService) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls useEmbeddablesThreads(int embeddablesThreads) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls useParsedStoriesCacheSize(int parsedStoriesCacheSize) {
+        throw notAllowed();
+    }
+
     private RuntimeException notAllowed() {
         return new ModificationNotAllowed();
     }
@@ -0,0 +1,80 @@
+package org.jbehave.core.embedder.executors;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.jbehave.core.embedder.EmbedderControls;
+
+/**
+ * <p>
+ * Creates instances of {@link Executors#newFixedThreadPool(int, ThreadFactory)} running the stories in virtual
+ * threads, so that {@link EmbedderControls#threads()} can be raised to thousands of concurrent, mostly I/O-bound,
+ * stories without requiring as many OS threads.
+ * </p>
+ * <p>
+ * Virtual threads are only available from JDK 21: they are detected at runtime and, if not supported, the stories run
+ * in platform threads as with {@link FixedThreadExecutors}.
+ * </p>
+ */
+public class VirtualThreadExecutors implements ExecutorServiceFactory {
+
+    private static final MethodHandle VIRTUAL_THREAD_FACTORY = virtualThreadFactory();
+
+    @Override
+    public ExecutorService create(EmbedderControls controls) {
+        if (!isSupported()) {
+            return new FixedThreadExecutors().create(controls);
+        }
+        return Executors.newFixedThreadPool(controls.threads(), threadFactory());
+    }
+
+    /**
+     * Returns whether virtual threads are supported by the running JVM
+     *
+     * @return A boolean <code>true</code> if running on JDK 21 or later
+     */
+    public static boolean isSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    private static ThreadFactory threadFactory() {
+        try {
+            return (ThreadFactory) VIRTUAL_THREAD_FACTORY.invoke();
+        } catch (Throwable e) {
+            throw new VirtualThreadsFailed(e);
+        }
+    }
+
+    private static MethodHandle virtualThreadFactory() {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+                    MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual")));
+            MethodHandle name = lookup.findVirtual(builderType, "name",
+                    MethodType.methodType(builderType, String.class, long.class));
+            MethodHandle factory = lookup.findVirtual(builderType, "factory",
+                    MethodType.methodType(ThreadFactory.class));
+            MethodHandle namedBuilder = MethodHandles.filterReturnValue(
+                    ofVirtual.asType(MethodType.methodType(builderType)),
+                    MethodHandles.insertArguments(name, 1, "jbehave-virtual-", 0L));
+            return MethodHandles.filterReturnValue(namedBuilder, factory);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    public static class VirtualThreadsFailed extends RuntimeException {
+
+        public VirtualThreadsFailed(Throwable cause) {
+            super("Failed to create virtual thread factory", cause);
+        }
+
+    }
+
+}
@@ -0,0 +1,18 @@
+package org.jbehave.core.embedder.executors;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jbehave.core.embedder.EmbedderControls;
+
+/**
+ *  Creates instances of {@link Executors#newWorkStealingPool(int)}.
+ */
+public class WorkStealingExecutors implements ExecutorServiceFactory {
+
+    @Override
+    public ExecutorService create(EmbedderControls controls) {
+        return Executors.newWorkStealingPool(controls.threads());
+    }
+
+}
@@ -18,7 +18,8 @@ public class ExpressionResolver {
     private static final List<Pattern> PATTERNS = Arrays.asList(RELUCTANT_EXPRESSION_PATTERN,
             GREEDY_EXPRESSION_PATTERN);
 
-    private static final String REPLACEMENT_PATTERN = "\\#\\{%s\\}";
+    private static final String EXPRESSION_START = "#{";
+    private static final String EXPRESSION_END = "}";
 
     private final Set<ExpressionProcessor<?>> expressionProcessors;
     private final ExpressionResolverMonitor expressionResolverMonitor;
@@ -52,7 +53,7 @@ public class ExpressionResolver {
      * @return the resulting string with expression placeholders replaced with expressions evaluation results
      */
     public Object resolveExpressions(boolean dryRun, String stringWithExpressions) {
-        if (dryRun) {
+        if (dryRun || !stringWithExpressions.contains(EXPRESSION_START)) {
             return stringWithExpressions;
         }
         try {
@@ -71,13 +72,12 @@ public class ExpressionResolver {
             expressionFound = true;
             String expression = expressionMatcher.group(1);
             Object expressionResult = apply(expression);
-            if (!(expressionResult instanceof String) && ("#{" + expression + "}").equals(processedValue)) {
+            String placeholder = EXPRESSION_START + expression + EXPRESSION_END;
+            if (!(expressionResult instanceof String) && placeholder.equals(processedValue)) {
                 return expressionResult;
             }
             if (!expressionResult.equals(expression)) {
-                String regex = String.format(REPLACEMENT_PATTERN, Pattern.quote(expression));
-                processedValue = processedValue.replaceFirst(regex,
-                        Matcher.quoteReplacement(String.valueOf(expressionResult)));
+                processedValue = replaceFirst(processedValue, placeholder, String.valueOf(expressionResult));
                 expressionFound = false;
                 expressionMatcher.reset(processedValue);
             }
@@ -88,6 +88,15 @@ public class ExpressionResolver {
         return processedValue;
     }
 
+    /**
+     * Replaces the first occurrence of the placeholder as a literal, avoiding the compilation of a pattern per
+     * replacement.
+     */
+    private static String replaceFirst(String value, String placeholder, String replacement) {
+        int start = value.indexOf(placeholder);
+        return value.substring(0, start) + replacement + value.substring(start + placeholder.length());
+    }
+
     private Object apply(String expression) {
         for (ExpressionProcessor<?> processor : expressionProcessors) {
             Optional<?> optional = processor.execute(expression);
@@ -8,16 +8,21 @@ import static org.apache.commons.lang3.Validate.notBlank;
 
 import java.io.PrintStream;
 import java.lang.reflect.Type;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -211,6 +216,24 @@ public class ExamplesTable {
         this.defaults = defaults;
     }
 
+    private ExamplesTable(ExamplesTable other) {
+        this.tableRows = other.tableRows.copy();
+        this.parameterConverters = other.parameterConverters;
+        this.parameterControls = other.parameterControls;
+        other.tablePropertiesQueue.forEach(properties -> this.tablePropertiesQueue.add(properties.copy()));
+        this.defaults = other.defaults;
+        this.namedParameters = other.namedParameters;
+    }
+
+    /**
+     * Creates a copy of the table, whose rows, headers and properties can be modified without modifying this table
+     *
+     * @return The copy of the table
+     */
+    ExamplesTable copy() {
+        return new ExamplesTable(this);
+    }
+
     public ExamplesTable withDefaults(Parameters defaults) {
         return new ExamplesTable(this, new ChainedRow(defaults, this.defaults));
     }
@@ -226,7 +249,8 @@ public class ExamplesTable {
                 getHeaders().add(header);
             }
         }
-        List<String> row = getRowValues(rowIndex);
+        // the row is copied on write, as the rows already handed out are views over the row values
+        List<String> row = new ArrayList<>(getRowValues(rowIndex));
         List<String> headers = getHeaders();
         for (int i = 0, headersSize = headers.size(); i < headersSize; i++) {
             String value = values.get(headers.get(i));
@@ -237,6 +261,7 @@ public class ExamplesTable {
                 row.set(i, value);
             }
         }
+        tableRows.rows.set(rowIndex, row);
         return this;
     }
 
@@ -282,12 +307,7 @@ public class ExamplesTable {
             throw new NonDistinctColumnFound(exceptionMessage);
         }
 
-        Map<String, String> result = new LinkedHashMap<>();
-        List<String> headers = getHeaders();
-        for (int i = 0, headersSize = headers.size(); i < headersSize; i++) {
-            result.put(headers.get(i), i < values.size() ? values.get(i) : EMPTY_VALUE);
-        }
-        return result;
+        return new RowView(tableRows.getHeaderIndex(), values);
     }
 
     public List<String> getRowValues(int rowIndex) {
@@ -304,6 +324,9 @@ public class ExamplesTable {
 
     public Parameters getRowAsParameters(int rowIndex, boolean replaceNamedParameters) {
         Map<String, String> row = getRow(rowIndex, replaceNamedParameters);
+        if (defaults.values().isEmpty()) {
+            return new ConvertedParameters(row, parameterConverters);
+        }
         return new ConvertedParameters(new ChainedRow(new ConvertedParameters(row, parameterConverters), defaults),
                 parameterConverters);
     }
@@ -436,6 +459,16 @@ public class ExamplesTable {
             properties.putAll(parseProperties(propertiesAsString));
         }
 
+        private TableProperties(TableProperties other) {
+            this.propertiesAsString = other.propertiesAsString;
+            this.parameterConverters = other.parameterConverters;
+            this.properties.putAll(other.properties);
+        }
+
+        TableProperties copy() {
+            return new TableProperties(this);
+        }
+
         private Map<String, String> parseProperties(String propertiesAsString) {
             Map<String, String> result = new LinkedHashMap<>();
             if (!StringUtils.isEmpty(propertiesAsString)) {
@@ -584,6 +617,8 @@ public class ExamplesTable {
         private final List<String> headers;
         private final List<List<String>> rows;
         private final boolean allColumnsDistinct;
+        private Map<String, Integer> headerIndex;
+        private List<String> indexedHeaders;
 
         public TableRows(List<String> headers, List<List<String>> rows) {
             this.headers = headers;
@@ -603,9 +638,35 @@ public class ExamplesTable {
             return allColumnsDistinct;
         }
 
+        /**
+         * Returns the index of the distinct headers, shared by all the row views. As the headers can be modified via
+         * {@link #getHeaders()}, the index is rebuilt whenever they differ from the headers it was built from.
+         */
+        private Map<String, Integer> getHeaderIndex() {
+            Map<String, Integer> index = headerIndex;
+            if (index == null || !headers.equals(indexedHeaders)) {
+                index = new LinkedHashMap<>();
+                for (int i = 0; i < headers.size(); i++) {
+                    index.putIfAbsent(headers.get(i), i);
+                }
+                index = Collections.unmodifiableMap(index);
+                headerIndex = index;
+                indexedHeaders = new ArrayList<>(headers);
+            }
+            return index;
+        }
+
+        private TableRows copy() {
+            List<List<String>> copiedRows = new ArrayList<>(rows.size());
+            rows.forEach(row -> copiedRows.add(new ArrayList<>(row)));
+            return new TableRows(new ArrayList<>(headers), copiedRows);
+        }
+
         private void clear() {
             headers.clear();
             rows.clear();
+            headerIndex = null;
+            indexedHeaders = null;
         }
 
         private List<String> getRow(int rowIndex) {
@@ -632,6 +693,154 @@ public class ExamplesTable {
         }
     }
 
+    /**
+     * A row as a map of the header names to the row values, which reads the values from the table rows rather than
+     * copying them. The first modification detaches the view into a map of its own, leaving the table unchanged. As
+     * the table replaces, rather than modifies, the values of a modified row, and the header index is a snapshot, the
+     * view is not affected by later modifications of the table.
+     */
+    private static final class RowView extends AbstractMap<String, String> {
+        private final Map<String, Integer> headerIndex;
+        private final List<String> values;
+        private Map<String, String> detached;
+
+        private RowView(Map<String, Integer> headerIndex, List<String> values) {
+            this.headerIndex = headerIndex;
+            this.values = values;
+        }
+
+        private String valueAt(int index) {
+            return index < values.size() ? values.get(index) : EMPTY_VALUE;
+        }
+
+        private Map<String, String> detach() {
+            if (detached == null) {
+                Map<String, String> copy = new LinkedHashMap<>();
+                for (Map.Entry<String, Integer> header : headerIndex.entrySet()) {
+                    copy.put(header.getKey(), valueAt(header.getValue()));
+                }
+                detached = copy;
+            }
+            return detached;
+        }
+
+        @Override
+        public int size() {
+            return detached != null ? detached.size() : headerIndex.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return detached != null ? detached.containsKey(key) : headerIndex.containsKey(key);
+        }
+
+        @Override
+        public String get(Object key) {
+            if (detached != null) {
+                return detached.get(key);
+            }
+            Integer index = headerIndex.get(key);
+            return index != null ? valueAt(index) : null;
+        }
+
+        @Override
+        public String put(String key, String value) {
+            return detach().put(key, value);
+        }
+
+        @Override
+        public String remove(Object key) {
+            return detach().remove(key);
+        }
+
+        @Override
+        public void clear() {
+            detach().clear();
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            if (detached != null) {
+                return detached.entrySet();
+            }
+            return new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    Iterator<Entry<String, Integer>> headers = headerIndex.entrySet().iterator();
+                    return new Iterator<Entry<String, String>>() {
+                        private String lastKey;
+
+                        @Override
+                        public boolean hasNext() {
+                            return headers.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            Entry<String, Integer> header = headers.next();
+                            lastKey = header.getKey();
+                            return new RowEntry(header.getKey(), header.getValue());
+                        }
+
+                        @Override
+                        public void remove() {
+                            detach().remove(lastKey);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return headerIndex.size();
+                }
+            };
+        }
+
+        private final class RowEntry implements Entry<String, String> {
+            private final String key;
+            private final int index;
+
+            private RowEntry(String key, int index) {
+                this.key = key;
+                this.index = index;
+            }
+
+            @Override
+            public String getKey() {
+                return key;
+            }
+
+            @Override
+            public String getValue() {
+                return detached != null ? detached.get(key) : valueAt(index);
+            }
+
+            @Override
+            public String setValue(String value) {
+                return detach().put(key, value);
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (!(o instanceof Entry)) {
+                    return false;
+                }
+                Entry<?, ?> that = (Entry<?, ?>) o;
+                return key.equals(that.getKey()) && Objects.equals(getValue(), that.getValue());
+            }
+
+            @Override
+            public int hashCode() {
+                return key.hashCode() ^ Objects.hashCode(getValue());
+            }
+
+            @Override
+            public String toString() {
+                return key + "=" + getValue();
+            }
+        }
+    }
+
     public static class RowNotFound extends RuntimeException {
         static final long serialVersionUID = 6577709350720827070L;
 
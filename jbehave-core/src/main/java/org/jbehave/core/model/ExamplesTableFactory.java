@@ -2,7 +2,10 @@ package org.jbehave.core.model;
 
 import static org.apache.commons.lang3.Validate.isTrue;
 
+import java.util.Collections;
 import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -43,6 +46,7 @@ public class ExamplesTableFactory {
     private final TableParsers tableParsers;
     private final TableTransformers tableTransformers;
     private final TableTransformerMonitor tableTransformerMonitor;
+    private volatile Map<String, ExamplesTable> externalTables;
 
     public ExamplesTableFactory(ResourceLoader resourceLoader, TableTransformers tableTransformers) {
         this(new LocalizedKeywords(), resourceLoader, tableTransformers);
@@ -89,53 +93,93 @@ public class ExamplesTableFactory {
         this.tableTransformerMonitor = configuration.tableTransformerMonitor();
     }
 
+    /**
+     * Caches the tables loaded from external resources, so that a resource referenced many times is loaded, transformed
+     * and parsed only once. The tables are cached by input, i.e. by resource path and properties, including the
+     * transformers, and each table created is a copy of the cached one, which can be modified independently. As a
+     * cached table is not loaded or transformed again, the cache should not be used with resources that change during
+     * the run or with transformers whose result is not determined by the table and its properties.
+     *
+     * @param maxSize the maximum number of tables cached, the least recently used tables being evicted first
+     */
+    @SuppressWarnings("serial")
+    public void useExternalTablesCache(final int maxSize) {
+        this.externalTables = Collections.synchronizedMap(new LinkedHashMap<String, ExamplesTable>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ExamplesTable> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
     public ExamplesTable createExamplesTable(String input) {
+        Map<String, ExamplesTable> cache = externalTables;
+        if (cache != null) {
+            ExamplesTable cached = cache.get(input);
+            if (cached != null) {
+                return cached.copy();
+            }
+        }
+
         TablePropertiesQueue tablePropertiesQueue = tableParsers.parseProperties(input);
 
         String tableAsString = tablePropertiesQueue.getTable().trim();
         Deque<TableProperties> properties = tablePropertiesQueue.getProperties();
 
         if (isExternal(tableAsString, properties.peekFirst())) {
-            checkResourceProperties(input, properties.peekFirst());
-            String loadedTable = resourceLoader.loadResourceAsText(tableAsString.trim());
-            tablePropertiesQueue = tableParsers.parseProperties(loadedTable);
-            Deque<TableProperties> target = tablePropertiesQueue.getProperties();
-            TableProperties headProperties = target.peekFirst();
-            for (TableProperties outerProperties : properties) {
-                outerProperties.overrideSeparatorsFrom(headProperties);
-                target.addLast(outerProperties);
+            ExamplesTable table = createExternalExamplesTable(input, tableAsString, properties);
+            if (cache != null) {
+                cache.put(input, table);
+                return table.copy();
             }
+            return table;
+        }
 
-            String table = tablePropertiesQueue.getTable();
-            if (isExternal(tablePropertiesQueue.getTable(), headProperties)) {
-                table = target.stream().filter(t -> !t.isEmpty())
-                                       .map(TableProperties::asString)
-                                       .collect(Collectors.joining(
-                                               System.lineSeparator(),
-                                               "",
-                                               System.lineSeparator() + table));
-                return createExamplesTable(table);
-            }
+        return new ExamplesTable(tablePropertiesQueue, parameterConverters, parameterControls, tableParsers,
+                tableTransformers, tableTransformerMonitor);
+    }
 
-            boolean hasTransformers = target.getFirst().getTransformer() != null;
-            if (hasTransformers) {
-                loadedTable = TableTransformersExecutor.applyTransformers(tableTransformers,
-                        tablePropertiesQueue.getTable(), tableParsers, target, tableTransformerMonitor);
-                tablePropertiesQueue = tableParsers.parseProperties(loadedTable);
-                TableProperties parsedProperties = tablePropertiesQueue.getProperties().getFirst();
-                if (StringUtils.isEmpty(parsedProperties.getPropertiesAsString())) {
-                    TableProperties newProperties = new TableProperties("", keywords, parameterConverters);
-                    newProperties.overrideSeparatorsFrom(target.peekLast());
-                    target.clear();
-                    target.addFirst(newProperties);
-                } else {
-                    target = tablePropertiesQueue.getProperties();
-                }
-            }
+    private ExamplesTable createExternalExamplesTable(String input, String tableAsString,
+            Deque<TableProperties> properties) {
+        checkResourceProperties(input, properties.peekFirst());
+        String loadedTable = resourceLoader.loadResourceAsText(tableAsString.trim());
+        TablePropertiesQueue tablePropertiesQueue = tableParsers.parseProperties(loadedTable);
+        Deque<TableProperties> target = tablePropertiesQueue.getProperties();
+        TableProperties headProperties = target.peekFirst();
+        for (TableProperties outerProperties : properties) {
+            outerProperties.overrideSeparatorsFrom(headProperties);
+            target.addLast(outerProperties);
+        }
 
-            tablePropertiesQueue = new TablePropertiesQueue(tablePropertiesQueue.getTable(), target);
+        String table = tablePropertiesQueue.getTable();
+        if (isExternal(tablePropertiesQueue.getTable(), headProperties)) {
+            table = target.stream().filter(t -> !t.isEmpty())
+                                   .map(TableProperties::asString)
+                                   .collect(Collectors.joining(
+                                           System.lineSeparator(),
+                                           "",
+                                           System.lineSeparator() + table));
+            return createExamplesTable(table);
         }
 
+        boolean hasTransformers = target.getFirst().getTransformer() != null;
+        if (hasTransformers) {
+            loadedTable = TableTransformersExecutor.applyTransformers(tableTransformers,
+                    tablePropertiesQueue.getTable(), tableParsers, target, tableTransformerMonitor);
+            tablePropertiesQueue = tableParsers.parseProperties(loadedTable);
+            TableProperties parsedProperties = tablePropertiesQueue.getProperties().getFirst();
+            if (StringUtils.isEmpty(parsedProperties.getPropertiesAsString())) {
+                TableProperties newProperties = new TableProperties("", keywords, parameterConverters);
+                newProperties.overrideSeparatorsFrom(target.peekLast());
+                target.clear();
+                target.addFirst(newProperties);
+            } else {
+                target = tablePropertiesQueue.getProperties();
+            }
+        }
+
+        tablePropertiesQueue = new TablePropertiesQueue(tablePropertiesQueue.getTable(), target);
+
         return new ExamplesTable(tablePropertiesQueue, parameterConverters, parameterControls, tableParsers,
                 tableTransformers, tableTransformerMonitor);
     }
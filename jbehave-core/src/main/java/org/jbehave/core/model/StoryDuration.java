@@ -26,6 +26,10 @@ public class StoryDuration {
         return durationInMillis / 1000;
     }
 
+    public long getDurationInMillis() {
+        return durationInMillis;
+    }
+
     public long getTimeoutInSecs() {
         return timeoutInSecs;
     }
@@ -40,6 +44,11 @@ public class StoryDuration {
         return this;
     }
 
+    public StoryDuration updateTo(long atMillis) {
+        this.durationInMillis = atMillis - startedAtMillis;
+        return this;
+    }
+
     private long elapsedTimeInMillis() {
         return System.currentTimeMillis() - startedAtMillis;
     }    
@@ -52,6 +61,17 @@ public class StoryDuration {
         return cancelTimeoutInSecs == 0 || getDurationInSecs() > timeoutInSecs + cancelTimeoutInSecs;
     }
 
+    public long millisToTimeout() {
+        return Math.max(0, (timeoutInSecs + 1) * 1000 - elapsedTimeInMillis());
+    }
+
+    public long millisToCancelTimeout() {
+        if (cancelTimeoutInSecs == 0) {
+            return 0;
+        }
+        return Math.max(0, (timeoutInSecs + cancelTimeoutInSecs + 1) * 1000 - elapsedTimeInMillis());
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SIMPLE_STYLE);
@@ -1,5 +1,8 @@
 package org.jbehave.core.model;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
@@ -22,8 +25,6 @@ import org.jbehave.core.steps.ParameterConverters;
 
 public class TableParsers {
 
-    private static final String ROW_SEPARATOR_PATTERN = "\r?\n";
-
     private static final CharSequenceTranslator UNESCAPE_TRANSLATOR;
 
     static {
@@ -73,17 +74,38 @@ public class TableParsers {
     }
 
     public TableRows parseRows(String tableAsString, TableProperties properties) {
+        try {
+            return parseRows(new StringReader(tableAsString), properties);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Parses the rows of a table read line by line, without first splitting the whole table into lines. The
+     * separators and other parsing properties are resolved once for the table rather than once per row.
+     *
+     * @param tableReader the Reader of the table, without its inlined properties
+     * @param properties the table properties
+     * @return The TableRows
+     * @throws IOException if the table cannot be read
+     */
+    public TableRows parseRows(Reader tableReader, TableProperties properties) throws IOException {
         List<String> headers = new ArrayList<>();
         List<List<String>> rows = new ArrayList<>();
+        String ignorableSeparator = properties.getIgnorableSeparator();
+        RowParser valuesParser = new RowParser(properties, false);
+        LineReader lineReader = new LineReader(tableReader);
 
-        for (String rowLine : tableAsString.split(ROW_SEPARATOR_PATTERN)) {
+        String rowLine;
+        while ((rowLine = lineReader.readLine()) != null) {
             String trimmedRowLine = rowLine.trim();
             // skip ignorable or empty lines
-            if (!trimmedRowLine.startsWith(properties.getIgnorableSeparator()) && !trimmedRowLine.isEmpty()) {
+            if (!trimmedRowLine.startsWith(ignorableSeparator) && !trimmedRowLine.isEmpty()) {
                 if (headers.isEmpty()) {
-                    headers.addAll(parseRow(trimmedRowLine, true, properties));
+                    headers.addAll(new RowParser(properties, true).parse(trimmedRowLine));
                 } else {
-                    List<String> cells = parseRow(trimmedRowLine, false, properties);
+                    List<String> cells = valuesParser.parse(trimmedRowLine);
                     if (cells.size() > headers.size()) {
                         cells = cells.subList(0, headers.size());
                     }
@@ -96,26 +118,82 @@ public class TableParsers {
     }
 
     public List<String> parseRow(String rowAsString, boolean header, TableProperties properties) {
-        String separator = header ? properties.getHeaderSeparator() : properties.getValueSeparator();
-        String commentSeparator = properties.getCommentSeparator();
-        Optional<String> nullPlaceholder = properties.getNullPlaceholder().map(Optional::of).orElse(
-                defaultNullPlaceholder);
-        UnaryOperator<String> trimmer = properties.isTrim() ? String::trim : UnaryOperator.identity();
-        boolean processEscapeSequences = properties.isProcessEscapeSequences();
-        String[] cells = StringUtils.splitByWholeSeparatorPreserveAllTokens(rowAsString.trim(), separator);
-        List<String> row = new ArrayList<>(cells.length);
-        for (int i = 0; i < cells.length; i++) {
-            String cell = cells[i];
-            cell = StringUtils.substringBefore(cell, commentSeparator);
-            if ((i == 0 || i == cells.length - 1) && cell.isEmpty()) {
-                continue;
+        return new RowParser(properties, header).parse(rowAsString);
+    }
+
+    private final class RowParser {
+        private final String separator;
+        private final String commentSeparator;
+        private final Optional<String> nullPlaceholder;
+        private final UnaryOperator<String> trimmer;
+        private final boolean processEscapeSequences;
+
+        private RowParser(TableProperties properties, boolean header) {
+            this.separator = header ? properties.getHeaderSeparator() : properties.getValueSeparator();
+            this.commentSeparator = properties.getCommentSeparator();
+            this.nullPlaceholder = properties.getNullPlaceholder().map(Optional::of).orElse(defaultNullPlaceholder);
+            this.trimmer = properties.isTrim() ? String::trim : UnaryOperator.identity();
+            this.processEscapeSequences = properties.isProcessEscapeSequences();
+        }
+
+        private List<String> parse(String rowAsString) {
+            String[] cells = StringUtils.splitByWholeSeparatorPreserveAllTokens(rowAsString.trim(), separator);
+            List<String> row = new ArrayList<>(cells.length);
+            for (int i = 0; i < cells.length; i++) {
+                String cell = cells[i];
+                cell = StringUtils.substringBefore(cell, commentSeparator);
+                if ((i == 0 || i == cells.length - 1) && cell.isEmpty()) {
+                    continue;
+                }
+                String trimmedCell = trimmer.apply(cell);
+                if (processEscapeSequences) {
+                    trimmedCell = UNESCAPE_TRANSLATOR.translate(trimmedCell);
+                }
+                row.add(nullPlaceholder.filter(trimmedCell::equals).isPresent() ? null : trimmedCell);
             }
-            String trimmedCell = trimmer.apply(cell);
-            if (processEscapeSequences) {
-                trimmedCell = UNESCAPE_TRANSLATOR.translate(trimmedCell);
+            return row;
+        }
+    }
+
+    /**
+     * Reads lines separated by "\n", the trailing "\r" of "\r\n" separators being removed along with the other
+     * leading and trailing whitespace of the row lines.
+     */
+    private static final class LineReader {
+        private final Reader reader;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+
+        private LineReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        private String readLine() throws IOException {
+            line.setLength(0);
+            while (fill()) {
+                for (int i = position; i < limit; i++) {
+                    if (buffer[i] == '\n') {
+                        line.append(buffer, position, i - position);
+                        position = i + 1;
+                        return line.toString();
+                    }
+                }
+                line.append(buffer, position, limit - position);
+                position = limit;
+            }
+            return line.length() > 0 ? line.toString() : null;
+        }
+
+        private boolean fill() throws IOException {
+            if (position < limit) {
+                return true;
             }
-            row.add(nullPlaceholder.filter(trimmedCell::equals).isPresent() ? null : trimmedCell);
+            int read = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            limit = Math.max(read, 0);
+            return read > 0;
         }
-        return row;
     }
 }
@@ -6,6 +6,9 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -21,6 +24,7 @@ abstract class AbstractRegexParser {
     private static final String CRLF = "\\r?\\n";
 
     private final Keywords keywords;
+    private final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
 
     protected AbstractRegexParser() {
         this(new LocalizedKeywords());
@@ -87,10 +91,23 @@ abstract class AbstractRegexParser {
     // Regex Patterns
 
     private Pattern findingSteps() {
-        String startingWords = concatenateStartingWords();
-        return compile(
-                "((" + startingWords + ")(.*?))(\\Z|" + startingWords + "|" + CRLF + keywords().examplesTable() + ")",
-                DOTALL);
+        return pattern("steps", () -> {
+            String startingWords = concatenateStartingWords();
+            return compile("((" + startingWords + ")(.*?))(\\Z|" + startingWords + "|" + CRLF
+                    + keywords().examplesTable() + ")", DOTALL);
+        });
+    }
+
+    /**
+     * Returns the pattern of the given name, compiling it only the first time it is requested: as the keywords of the
+     * parser do not change, neither do the patterns built from them.
+     *
+     * @param name the name of the pattern
+     * @param compiler the supplier compiling the pattern
+     * @return The compiled pattern
+     */
+    protected Pattern pattern(String name, Supplier<Pattern> compiler) {
+        return patterns.computeIfAbsent(name, n -> compiler.get());
     }
 
     protected String concatenateStartingWords() {
@@ -62,13 +62,15 @@ public class RegexCompositeParser extends AbstractRegexParser implements Composi
 
     // Regex Patterns
     private Pattern findingCompositePattern() {
-        String startingWords = concatenateStartingWords();
-        String startingCompositeStepWords = concatenateWithOr("\\s*", Arrays.asList(
-                keywords().given(),
-                keywords().when(),
-                keywords().then()
-        ));
-        return compile(keywords().composite() + "\n(" + startingCompositeStepWords + "\\s.*?)\\s*(?:\n\\s*"
-                + keywords().priority() + "\\s*(\\d+)" + "\\s*)?" + "(" + startingWords + ".*|\\s*$)", DOTALL);
+        return pattern("composite", () -> {
+            String startingWords = concatenateStartingWords();
+            String startingCompositeStepWords = concatenateWithOr("\\s*", Arrays.asList(
+                    keywords().given(),
+                    keywords().when(),
+                    keywords().then()
+            ));
+            return compile(keywords().composite() + "\n(" + startingCompositeStepWords + "\\s.*?)\\s*(?:\n\\s*"
+                    + keywords().priority() + "\\s*(\\d+)" + "\\s*)?" + "(" + startingWords + ".*|\\s*$)", DOTALL);
+        });
     }
 }
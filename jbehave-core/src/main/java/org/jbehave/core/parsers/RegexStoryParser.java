@@ -57,8 +57,9 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
         Description description = parseDescriptionFrom(storyAsText);
         Meta meta = parseStoryMetaFrom(storyAsText);
         Narrative narrative = parseNarrativeFrom(storyAsText);
-        GivenStories givenStories = parseGivenStories(storyAsText);
-        Lifecycle lifecycle = parseLifecycle(storyAsText);
+        String beforeScenario = beforeScenarioText(storyAsText);
+        GivenStories givenStories = parseGivenStories(beforeScenario);
+        Lifecycle lifecycle = parseLifecycle(beforeScenario);
         if (lifecycle != null) {
             ExamplesTable storyExamplesTable = lifecycle.getExamplesTable();
             if (!storyExamplesTable.isEmpty()) {
@@ -87,10 +88,19 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     }
 
     private String preScenarioText(String storyAsText) {
-        String[] split = storyAsText.split(keywords().scenario());
+        String[] split = findingScenarioKeyword().split(storyAsText);
         return split.length > 0 ? split[0] : storyAsText;
     }
 
+    private String beforeScenarioText(String storyAsText) {
+        // use text before scenario keyword, if found
+        String scenarioKeyword = keywords().scenario();
+        if (StringUtils.contains(storyAsText, scenarioKeyword)) {
+            return StringUtils.substringBefore(storyAsText, scenarioKeyword);
+        }
+        return "";
+    }
+
     private Narrative parseNarrativeFrom(String storyAsText) {
         Matcher findingNarrative = findingNarrative().matcher(storyAsText);
         if (findingNarrative.matches()) {
@@ -119,25 +129,13 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
         return Narrative.EMPTY;
     }
     
-    private GivenStories parseGivenStories(String storyAsText) {
-        String scenarioKeyword = keywords().scenario();
-        // use text before scenario keyword, if found
-        String beforeScenario = "";
-        if (StringUtils.contains(storyAsText, scenarioKeyword)) {
-            beforeScenario = StringUtils.substringBefore(storyAsText, scenarioKeyword);
-        }
+    private GivenStories parseGivenStories(String beforeScenario) {
         Matcher findingGivenStories = findingStoryGivenStories().matcher(beforeScenario);
         String givenStories = findingGivenStories.find() ? findingGivenStories.group(1).trim() : NONE;
         return new GivenStories(givenStories);
     }
 
-    private Lifecycle parseLifecycle(String storyAsText) {
-        String scenarioKeyword = keywords().scenario();
-        // use text before scenario keyword, if found
-        String beforeScenario = "";
-        if (StringUtils.contains(storyAsText, scenarioKeyword)) {
-            beforeScenario = StringUtils.substringBefore(storyAsText, scenarioKeyword);
-        }
+    private Lifecycle parseLifecycle(String beforeScenario) {
         Matcher findingLifecycle = findingLifecycle().matcher(beforeScenario);
         String lifecycle;
         ExamplesTable examplesTable;
@@ -149,8 +147,7 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
             lifecycle = NONE;
             examplesTable = ExamplesTable.EMPTY;
         }
-        Matcher findingBeforeAndAfter = compile(
-                ".*" + keywords().before() + "(.*)\\s*" + keywords().after() + "(.*)\\s*", DOTALL).matcher(lifecycle);
+        Matcher findingBeforeAndAfter = findingLifecycleBeforeAndAfter().matcher(lifecycle);
         if (findingBeforeAndAfter.matches()) {
             String beforeLifecycle = findingBeforeAndAfter.group(1).trim();
             List<Steps> beforeSteps = parseBeforeLifecycle(beforeLifecycle);
@@ -158,13 +155,13 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
             List<Steps> afterSteps = parseAfterLifecycle(afterLifecycle);
             return new Lifecycle(examplesTable, beforeSteps, afterSteps);
         }
-        Matcher findingBefore = compile(".*" + keywords().before() + "(.*)\\s*", DOTALL).matcher(lifecycle);
+        Matcher findingBefore = findingLifecycleBefore().matcher(lifecycle);
         if (findingBefore.matches()) {
             String beforeLifecycle = findingBefore.group(1).trim();
             List<Steps> beforeSteps = parseBeforeLifecycle(beforeLifecycle);
             return new Lifecycle(examplesTable, beforeSteps, Arrays.<Steps>asList());
         }
-        Matcher findingAfter = compile(".*" + keywords().after() + "(.*)\\s*", DOTALL).matcher(lifecycle);
+        Matcher findingAfter = findingLifecycleAfter().matcher(lifecycle);
         if (findingAfter.matches()) {
             List<Steps> beforeSteps = asList();
             String afterLifecycle = findingAfter.group(1).trim();
@@ -336,84 +333,123 @@ public class RegexStoryParser extends AbstractRegexParser implements StoryParser
     // Regex Patterns
 
     private Pattern findingDescription() {
-        String metaOrNarrativeOrLifecycleOrScenario = concatenateWithOr(keywords().meta(), keywords().narrative(),
-                keywords().lifecycle(), keywords().scenario());
-        return compile("(.*?)(" + metaOrNarrativeOrLifecycleOrScenario + ").*", DOTALL);
+        return pattern("description", () -> {
+            String metaOrNarrativeOrLifecycleOrScenario = concatenateWithOr(keywords().meta(), keywords().narrative(),
+                    keywords().lifecycle(), keywords().scenario());
+            return compile("(.*?)(" + metaOrNarrativeOrLifecycleOrScenario + ").*", DOTALL);
+        });
+    }
+
+    private Pattern findingScenarioKeyword() {
+        return pattern("scenarioKeyword", () -> compile(keywords().scenario()));
     }
 
     private Pattern findingStoryMeta() {
-        String narrativeOrLifecycleOrGivenStories = concatenateWithOr(keywords().narrative(), keywords().lifecycle(),
-                keywords().givenStories());
-        return compile(".*" + keywords().meta() + "(.*?)\\s*(\\Z|" + narrativeOrLifecycleOrGivenStories + ").*",
-                DOTALL);
+        return pattern("storyMeta", () -> {
+            String narrativeOrLifecycleOrGivenStories = concatenateWithOr(keywords().narrative(),
+                    keywords().lifecycle(), keywords().givenStories());
+            return compile(".*" + keywords().meta() + "(.*?)\\s*(\\Z|" + narrativeOrLifecycleOrGivenStories + ").*",
+                    DOTALL);
+        });
     }
 
     private Pattern findingNarrative() {
-        String givenStoriesOrLifecycleOrScenario = concatenateWithOr(keywords().givenStories(), keywords().lifecycle(),
-                keywords().scenario());
-        return compile(".*" + keywords().narrative() + "(.*?)\\s*(" + givenStoriesOrLifecycleOrScenario + ").*",
-                DOTALL);
+        return pattern("narrative", () -> {
+            String givenStoriesOrLifecycleOrScenario = concatenateWithOr(keywords().givenStories(),
+                    keywords().lifecycle(), keywords().scenario());
+            return compile(".*" + keywords().narrative() + "(.*?)\\s*(" + givenStoriesOrLifecycleOrScenario + ").*",
+                    DOTALL);
+        });
     }
 
     private Pattern findingNarrativeElements() {
-        return compile(".*" + keywords().inOrderTo() + "(.*)\\s*" + keywords().asA() + "(.*)\\s*" + keywords().iWantTo()
-                + "(.*)", DOTALL);
+        return pattern("narrativeElements", () -> compile(".*" + keywords().inOrderTo() + "(.*)\\s*"
+                + keywords().asA() + "(.*)\\s*" + keywords().iWantTo() + "(.*)", DOTALL));
     }
 
     private Pattern findingAlternativeNarrativeElements() {
-        return compile(
-                ".*" + keywords().asA() + "(.*)\\s*" + keywords().iWantTo() + "(.*)\\s*" + keywords().soThat() + "(.*)",
-                DOTALL);
+        return pattern("alternativeNarrativeElements", () -> compile(".*" + keywords().asA() + "(.*)\\s*"
+                + keywords().iWantTo() + "(.*)\\s*" + keywords().soThat() + "(.*)", DOTALL));
     }
     
     private Pattern findingStoryGivenStories() {
-        String lifecycleOrScenario = concatenateWithOr(keywords().lifecycle(), keywords().scenario());
-        return compile(".*" + keywords().givenStories() + "(.*?)\\s*(\\Z|" + lifecycleOrScenario + ").*", DOTALL);
+        return pattern("storyGivenStories", () -> {
+            String lifecycleOrScenario = concatenateWithOr(keywords().lifecycle(), keywords().scenario());
+            return compile(".*" + keywords().givenStories() + "(.*?)\\s*(\\Z|" + lifecycleOrScenario + ").*",
+                    DOTALL);
+        });
     }
     
     private Pattern findingLifecycle() {
-        return compile(".*" + keywords().lifecycle() + "\\s*(.*)", DOTALL);
+        return pattern("lifecycle", () -> compile(".*" + keywords().lifecycle() + "\\s*(.*)", DOTALL));
+    }
+
+    private Pattern findingLifecycleBeforeAndAfter() {
+        return pattern("lifecycleBeforeAndAfter", () -> compile(
+                ".*" + keywords().before() + "(.*)\\s*" + keywords().after() + "(.*)\\s*", DOTALL));
+    }
+
+    private Pattern findingLifecycleBefore() {
+        return pattern("lifecycleBefore", () -> compile(".*" + keywords().before() + "(.*)\\s*", DOTALL));
+    }
+
+    private Pattern findingLifecycleAfter() {
+        return pattern("lifecycleAfter", () -> compile(".*" + keywords().after() + "(.*)\\s*", DOTALL));
     }
 
     private Pattern findingLifecycleScope() {
-        String startingWords = concatenateStartingWords();
-        return compile(keywords().scope() + "((.)*?)\\s*(" + keywords().outcome() + "|" + keywords().metaFilter() + "|"
-                + startingWords + ").*", DOTALL);
+        return pattern("lifecycleScope", () -> {
+            String startingWords = concatenateStartingWords();
+            return compile(keywords().scope() + "(.*?)\\s*(" + keywords().outcome() + "|" + keywords().metaFilter()
+                    + "|" + startingWords + ").*", DOTALL);
+        });
     }
 
     private Pattern findingLifecycleOutcome() {
-        String startingWords = concatenateStartingWords();
-        String outcomes = concatenateWithOr(keywords().outcomeAny(), keywords().outcomeSuccess(),
-                keywords().outcomeFailure());
-        return compile("\\s*(" + outcomes + ")\\s*(" + keywords().metaFilter() + "|" + startingWords + ").*", DOTALL);
+        return pattern("lifecycleOutcome", () -> {
+            String startingWords = concatenateStartingWords();
+            String outcomes = concatenateWithOr(keywords().outcomeAny(), keywords().outcomeSuccess(),
+                    keywords().outcomeFailure());
+            return compile("\\s*(" + outcomes + ")\\s*(" + keywords().metaFilter() + "|" + startingWords + ").*",
+                    DOTALL);
+        });
     }
 
     private Pattern findingLifecycleFilters() {
-        String startingWords = concatenateStartingWords();
-        String filters = concatenateWithOr(keywords().metaFilter());
-        return compile("\\s*(" + filters + "[\\w\\+\\-\\_\\s]*)(" + startingWords + ").*", DOTALL);
+        return pattern("lifecycleFilters", () -> {
+            String startingWords = concatenateStartingWords();
+            String filters = concatenateWithOr(keywords().metaFilter());
+            return compile("\\s*(" + filters + "[\\w\\+\\-\\_\\s]*)(" + startingWords + ").*", DOTALL);
+        });
     }
 
     private Pattern findingScenarioTitle() {
-        String startingWords = concatenateStartingWords();
-        return compile(keywords().scenario() + "(.*?)\\s*(" + keywords().meta() + "|" + keywords().givenStories() + "|"
-                + startingWords + "|$).*", DOTALL);
+        return pattern("scenarioTitle", () -> {
+            String startingWords = concatenateStartingWords();
+            return compile(keywords().scenario() + "(.*?)\\s*(" + keywords().meta() + "|"
+                    + keywords().givenStories() + "|" + startingWords + "|$).*", DOTALL);
+        });
     }
 
     private Pattern findingScenarioMeta() {
-        String startingWords = concatenateStartingWords();
-        return compile(".*^\\s*" + keywords().meta() + "(.*?)\\s*(" + keywords().givenStories() + "|" + startingWords
-                + "|$).*", DOTALL);
+        return pattern("scenarioMeta", () -> {
+            String startingWords = concatenateStartingWords();
+            return compile(".*^\\s*" + keywords().meta() + "(.*?)\\s*(" + keywords().givenStories() + "|"
+                    + startingWords + "|$).*", DOTALL);
+        });
     }
 
     private Pattern findingScenarioGivenStories() {
-        String startingWords = concatenateStartingWords();
-        return compile("\\n" + keywords().givenStories() + "((.|\\n)*?)\\s*(" + startingWords + ").*", DOTALL);
+        // a reluctant dot rather than an alternation, whose repetition recurses once per character
+        return pattern("scenarioGivenStories", () -> {
+            String startingWords = concatenateStartingWords();
+            return compile("\\n" + keywords().givenStories() + "(.*?)\\s*(" + startingWords + ").*", DOTALL);
+        });
     }
 
     private Pattern findingExamplesTable() {
-        return compile("\\n" + keywords().examplesTable() + "\\s*(.*?)(?:\\n" + keywords().ignorable() + ".*)?$",
-                DOTALL);
+        return pattern("examplesTable", () -> compile("\\n" + keywords().examplesTable() + "\\s*(.*?)(?:\\n"
+                + keywords().ignorable() + ".*)?$", DOTALL));
     }
 
     private String concatenateWithOr(String... keywords) {
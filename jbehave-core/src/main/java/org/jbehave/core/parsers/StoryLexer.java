@@ -0,0 +1,321 @@
+package org.jbehave.core.parsers;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.Function;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.steps.StepType;
+
+/**
+ * Finds the keywords of a story text in a single pass over the text.
+ * <p>
+ * Each position of the text is matched against a trie of the story keywords, which are found anywhere in the text,
+ * and each position following a newline against a trie of the starting words of the steps, which are found only at
+ * the start of a line, as in the patterns of {@link RegexStoryParser}. The keywords are matched literally.
+ * </p>
+ */
+class StoryLexer {
+
+    enum Keyword {
+        META(Keywords::meta),
+        NARRATIVE(Keywords::narrative),
+        IN_ORDER_TO(Keywords::inOrderTo),
+        AS_A(Keywords::asA),
+        I_WANT_TO(Keywords::iWantTo),
+        SO_THAT(Keywords::soThat),
+        GIVEN_STORIES(Keywords::givenStories),
+        LIFECYCLE(Keywords::lifecycle),
+        BEFORE(Keywords::before),
+        AFTER(Keywords::after),
+        SCOPE(Keywords::scope),
+        OUTCOME(Keywords::outcome),
+        META_FILTER(Keywords::metaFilter),
+        SCENARIO(Keywords::scenario),
+        EXAMPLES_TABLE(Keywords::examplesTable);
+
+        private final Function<Keywords, String> word;
+
+        Keyword(Function<Keywords, String> word) {
+            this.word = word;
+        }
+    }
+
+    private final Node keywords = new Node();
+    private final Node startingWords = new Node();
+    private final String[] words = new String[Keyword.values().length];
+    private final String ignorable;
+
+    StoryLexer(Keywords keywords) {
+        for (Keyword keyword : Keyword.values()) {
+            String word = keyword.word.apply(keywords);
+            words[keyword.ordinal()] = word;
+            this.keywords.add(word, keyword.ordinal());
+        }
+        // the starting words are ordered as the alternatives of the steps pattern, so that the same one is matched
+        int order = 0;
+        Iterator<String> iterator = keywords.startingWords(stepType -> stepType != StepType.IGNORABLE).iterator();
+        while (iterator.hasNext()) {
+            startingWords.add(iterator.next(), startingWord(order++, true));
+        }
+        iterator = keywords.startingWords(stepType -> stepType == StepType.IGNORABLE).iterator();
+        while (iterator.hasNext()) {
+            startingWords.add(iterator.next(), startingWord(order++, false));
+        }
+        this.ignorable = keywords.ignorable();
+    }
+
+    private static int startingWord(int order, boolean followedBySpace) {
+        return order << 1 | (followedBySpace ? 1 : 0);
+    }
+
+    Tokens tokenize(String text) {
+        Tokens tokens = new Tokens(text);
+        int length = text.length();
+        for (int start = 0; start < length; start++) {
+            char first = text.charAt(start);
+            boolean atLineStart = start > 0 && text.charAt(start - 1) == '\n';
+            Node node = keywords.child(first);
+            int end = start + 1;
+            while (node != null) {
+                for (int keyword : node.values) {
+                    tokens.keywords[keyword].add(start);
+                    if (atLineStart) {
+                        tokens.keywordsAtLineStart[keyword].add(start);
+                    }
+                }
+                node = end < length ? node.child(text.charAt(end++)) : null;
+            }
+            if (first == '\n') {
+                int stepStart = startingWordEnd(text, start + 1, length);
+                if (stepStart >= 0) {
+                    tokens.steps.add(start);
+                    tokens.stepStarts.add(stepStart);
+                }
+                if (text.startsWith(ignorable, start + 1)) {
+                    tokens.ignorables.add(start);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Matches the starting words at the given position, up to the given limit.
+     *
+     * @return The position following the first starting word matched, and its trailing whitespace if any, or -1
+     */
+    private int startingWordEnd(String text, int from, int limit) {
+        int matched = Integer.MAX_VALUE;
+        int matchedEnd = -1;
+        Node node = startingWords;
+        for (int end = from; end < limit && node != null; ) {
+            node = node.child(text.charAt(end++));
+            if (node == null) {
+                break;
+            }
+            for (int word : node.values) {
+                if (word >= matched) {
+                    continue;
+                }
+                boolean followedBySpace = (word & 1) == 1;
+                if (!followedBySpace) {
+                    matched = word;
+                    matchedEnd = end;
+                } else if (end < limit && isWhitespace(text.charAt(end))) {
+                    matched = word;
+                    matchedEnd = end + 1;
+                }
+            }
+        }
+        return matchedEnd;
+    }
+
+    /**
+     * Whether the given character is matched by <code>\s</code>.
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * The positions of the keywords found in a story text, in ascending order, and the queries the parser needs.
+     */
+    class Tokens {
+
+        private final String text;
+        private final Positions[] keywords = positions(Keyword.values().length);
+        private final Positions[] keywordsAtLineStart = positions(Keyword.values().length);
+        // the newlines followed by a starting word, and the positions following the starting words
+        private final Positions steps = new Positions();
+        private final Positions stepStarts = new Positions();
+        // the newlines followed by the ignorable keyword
+        private final Positions ignorables = new Positions();
+
+        private Tokens(String text) {
+            this.text = text;
+        }
+
+        int length(Keyword keyword) {
+            return words[keyword.ordinal()].length();
+        }
+
+        boolean startsAt(Keyword keyword, int position, int to) {
+            return position + length(keyword) <= to && text.startsWith(words[keyword.ordinal()], position);
+        }
+
+        /**
+         * Returns the first keyword found within the given bounds, or -1
+         */
+        int first(Keyword keyword, int from, int to) {
+            return firstOf(keywords[keyword.ordinal()], keyword, from, to);
+        }
+
+        /**
+         * Returns the first keyword found at the start of a line within the given bounds, or -1
+         */
+        int firstAtLineStart(Keyword keyword, int from, int to) {
+            return firstOf(keywordsAtLineStart[keyword.ordinal()], keyword, from, to);
+        }
+
+        private int firstOf(Positions positions, Keyword keyword, int from, int to) {
+            int index = positions.indexOf(from);
+            if (index < positions.size) {
+                int position = positions.values[index];
+                if (position + length(keyword) <= to) {
+                    return position;
+                }
+            }
+            return -1;
+        }
+
+        int last(Keyword keyword) {
+            Positions positions = keywords[keyword.ordinal()];
+            return positions.size > 0 ? positions.values[positions.size - 1] : -1;
+        }
+
+        /**
+         * Returns the last keyword found within the given bounds, or -1
+         */
+        int last(Keyword keyword, int from, int to) {
+            Positions positions = keywords[keyword.ordinal()];
+            int index = positions.indexOf(to - length(keyword) + 1) - 1;
+            if (index >= 0 && positions.values[index] >= from) {
+                return positions.values[index];
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the first newline, not before the given position, followed by a starting word ending within the
+         * given limit, or -1
+         */
+        int firstStep(int from, int limit) {
+            for (int index = steps.indexOf(from); index < steps.size && steps.values[index] < limit; index++) {
+                if (isStep(index, limit)) {
+                    return steps.values[index];
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the last newline, within the given bounds, followed by a starting word ending within the given
+         * limit, or -1
+         */
+        int lastStep(int from, int to, int limit) {
+            for (int index = steps.indexOf(to) - 1; index >= 0 && steps.values[index] >= from; index--) {
+                if (isStep(index, limit)) {
+                    return steps.values[index];
+                }
+            }
+            return -1;
+        }
+
+        private boolean isStep(int index, int limit) {
+            return stepStarts.values[index] <= limit || stepStart(steps.values[index] + 1, limit) >= 0;
+        }
+
+        /**
+         * Returns the position following the starting word at the given position, and its trailing whitespace if
+         * any, or -1 if no starting word ends there within the given limit
+         */
+        int stepStart(int position, int limit) {
+            return startingWordEnd(text, position, limit);
+        }
+
+        /**
+         * Returns the first newline, not before the given position, followed by the ignorable keyword ending within
+         * the given limit, or -1
+         */
+        int firstIgnorable(int from, int limit) {
+            int index = ignorables.indexOf(from);
+            if (index < ignorables.size && ignorables.values[index] + 1 + ignorable.length() <= limit) {
+                return ignorables.values[index];
+            }
+            return -1;
+        }
+    }
+
+    private static Positions[] positions(int size) {
+        Positions[] positions = new Positions[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = new Positions();
+        }
+        return positions;
+    }
+
+    private static class Positions {
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int position) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = position;
+        }
+
+        /**
+         * Returns the index of the first position not before the given one, or the size if there is none
+         */
+        int indexOf(int position) {
+            int index = Arrays.binarySearch(values, 0, size, position);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+
+    private static class Node {
+        private char[] chars = new char[0];
+        private Node[] children = new Node[0];
+        private int[] values = new int[0];
+
+        Node child(char c) {
+            for (int i = 0; i < chars.length; i++) {
+                if (chars[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        void add(String word, int value) {
+            Node node = this;
+            for (char c : word.toCharArray()) {
+                Node child = node.child(c);
+                if (child == null) {
+                    child = new Node();
+                    node.chars = Arrays.copyOf(node.chars, node.chars.length + 1);
+                    node.chars[node.chars.length - 1] = c;
+                    node.children = Arrays.copyOf(node.children, node.children.length + 1);
+                    node.children[node.children.length - 1] = child;
+                }
+                node = child;
+            }
+            if (node != this) {
+                node.values = Arrays.copyOf(node.values, node.values.length + 1);
+                node.values[node.values.length - 1] = value;
+            }
+        }
+    }
+}
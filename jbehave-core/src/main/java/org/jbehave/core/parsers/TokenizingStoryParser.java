@@ -0,0 +1,582 @@
+package org.jbehave.core.parsers;
+
+import static org.jbehave.core.parsers.StoryLexer.Keyword.AFTER;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.AS_A;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.BEFORE;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.EXAMPLES_TABLE;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.GIVEN_STORIES;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.IN_ORDER_TO;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.I_WANT_TO;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.LIFECYCLE;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.META;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.META_FILTER;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.NARRATIVE;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.OUTCOME;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.SCENARIO;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.SCOPE;
+import static org.jbehave.core.parsers.StoryLexer.Keyword.SO_THAT;
+import static org.jbehave.core.parsers.StoryLexer.isWhitespace;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jbehave.core.annotations.AfterScenario.Outcome;
+import org.jbehave.core.annotations.Scope;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Lifecycle.Steps;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.StoryLexer.Keyword;
+import org.jbehave.core.parsers.StoryLexer.Tokens;
+
+/**
+ * Story parser which finds the keywords of the textual story in a single pass, using the keywords provided, and
+ * parses the {@link Story} from the positions of the keywords found, rather than by matching patterns against the
+ * text. It parses the same {@link Story} as {@link RegexStoryParser}, as long as the keywords contain no regular
+ * expression, without backtracking over long stories and large inline tables.
+ */
+public class TokenizingStoryParser implements StoryParser {
+
+    private static final String NONE = "";
+
+    private final ExamplesTableFactory tableFactory;
+    private final Keywords keywords;
+    private final StoryLexer lexer;
+
+    public TokenizingStoryParser() {
+        this(new ExamplesTableFactory(RegexStoryParser.DEFAULT_RESOURCE_LOADER,
+                RegexStoryParser.DEFAULT_TABLE_TRANSFORMERS));
+    }
+
+    public TokenizingStoryParser(ExamplesTableFactory tableFactory) {
+        this.tableFactory = tableFactory;
+        this.keywords = tableFactory.keywords();
+        this.lexer = new StoryLexer(keywords);
+    }
+
+    @Override
+    public Story parseStory(String storyAsText) {
+        return parseStory(storyAsText, null);
+    }
+
+    @Override
+    public Story parseStory(String storyAsText, String storyPath) {
+        return new TokenizedStory(storyAsText).parse(storyPath);
+    }
+
+    /**
+     * The story text and the positions of its keywords. The parts of the story are delimited by positions in the
+     * text, and a part starting with a newline which is not in the text, as the regex parser prepends one to the parts
+     * it finds steps in, is flagged by <code>newline</code> rather than copied.
+     */
+    private class TokenizedStory {
+
+        private final String text;
+        private final Tokens tokens;
+
+        TokenizedStory(String text) {
+            this.text = text;
+            this.tokens = lexer.tokenize(text);
+        }
+
+        Story parse(String storyPath) {
+            int length = text.length();
+            int firstScenario = tokens.first(SCENARIO, 0, length);
+            Description description = parseDescription();
+            Meta meta = parseStoryMeta(preScenarioEnd(firstScenario));
+            Narrative narrative = parseNarrative();
+            int beforeScenarioEnd = Math.max(firstScenario, 0);
+            GivenStories givenStories = parseGivenStories(beforeScenarioEnd);
+            Lifecycle lifecycle = parseLifecycle(beforeScenarioEnd);
+            ExamplesTable storyExamplesTable = lifecycle.getExamplesTable();
+            if (!storyExamplesTable.isEmpty()) {
+                useExamplesTableForGivenStories(givenStories, storyExamplesTable);
+            }
+            List<Scenario> scenarios = parseScenarios(firstScenario);
+            return new Story(storyPath, description, meta, narrative, givenStories, lifecycle, scenarios);
+        }
+
+        private Description parseDescription() {
+            int length = text.length();
+            int end = earliest(tokens.first(META, 0, length), tokens.first(NARRATIVE, 0, length),
+                    tokens.first(LIFECYCLE, 0, length), tokens.first(SCENARIO, 0, length));
+            if (end >= 0) {
+                return new Description(text.substring(0, end).trim());
+            }
+            return Description.EMPTY;
+        }
+
+        private int preScenarioEnd(int firstScenario) {
+            if (firstScenario < 0 || onlyScenarioKeywords()) {
+                return text.length();
+            }
+            return firstScenario;
+        }
+
+        // the text split by the scenario keyword has no parts if the text is made of scenario keywords only
+        private boolean onlyScenarioKeywords() {
+            int length = text.length();
+            int end = 0;
+            for (int scenario = tokens.first(SCENARIO, 0, length); scenario == end;
+                    scenario = tokens.first(SCENARIO, end, length)) {
+                end = scenario + tokens.length(SCENARIO);
+            }
+            return end == length;
+        }
+
+        private Meta parseStoryMeta(int preScenarioEnd) {
+            int meta = tokens.last(META, 0, preScenarioEnd);
+            if (meta >= 0) {
+                int from = meta + tokens.length(META);
+                int end = earliest(tokens.first(NARRATIVE, from, preScenarioEnd),
+                        tokens.first(LIFECYCLE, from, preScenarioEnd),
+                        tokens.first(GIVEN_STORIES, from, preScenarioEnd),
+                        endOfText(0, preScenarioEnd, from));
+                return Meta.createMeta(text.substring(from, end).trim(), keywords);
+            }
+            return Meta.EMPTY;
+        }
+
+        private Narrative parseNarrative() {
+            int length = text.length();
+            int lastKeyword = Math.max(tokens.last(GIVEN_STORIES),
+                    Math.max(tokens.last(LIFECYCLE), tokens.last(SCENARIO)));
+            int narrative = lastKeyword >= 0 ? tokens.last(NARRATIVE, 0, lastKeyword) : -1;
+            if (narrative >= 0) {
+                int from = narrative + tokens.length(NARRATIVE);
+                int end = earliest(tokens.first(GIVEN_STORIES, from, length), tokens.first(LIFECYCLE, from, length),
+                        tokens.first(SCENARIO, from, length));
+                int start = trimStart(from, end);
+                return createNarrative(start, trimEnd(start, end));
+            }
+            return Narrative.EMPTY;
+        }
+
+        private Narrative createNarrative(int from, int to) {
+            String[] elements = findNarrativeElements(from, to, IN_ORDER_TO, AS_A, I_WANT_TO);
+            if (elements != null) {
+                return new Narrative(elements[0], elements[1], elements[2]);
+            }
+            elements = findNarrativeElements(from, to, AS_A, I_WANT_TO, SO_THAT);
+            if (elements != null) {
+                return new Narrative("", elements[0], elements[1], elements[2]);
+            }
+            return Narrative.EMPTY;
+        }
+
+        private String[] findNarrativeElements(int from, int to, Keyword first, Keyword second, Keyword third) {
+            int thirdElement = tokens.last(third, from, to);
+            int secondElement = thirdElement >= 0 ? tokens.last(second, from, thirdElement) : -1;
+            int firstElement = secondElement >= 0 ? tokens.last(first, from, secondElement) : -1;
+            if (firstElement < 0) {
+                return null;
+            }
+            return new String[] {
+                text.substring(firstElement + tokens.length(first), secondElement).trim(),
+                text.substring(secondElement + tokens.length(second), thirdElement).trim(),
+                text.substring(thirdElement + tokens.length(third), to).trim()
+            };
+        }
+
+        private GivenStories parseGivenStories(int beforeScenarioEnd) {
+            int givenStories = tokens.last(GIVEN_STORIES, 0, beforeScenarioEnd);
+            if (givenStories >= 0) {
+                int from = givenStories + tokens.length(GIVEN_STORIES);
+                int end = earliest(tokens.first(LIFECYCLE, from, beforeScenarioEnd),
+                        tokens.first(SCENARIO, from, beforeScenarioEnd), endOfText(0, beforeScenarioEnd, from));
+                return new GivenStories(text.substring(from, end).trim());
+            }
+            return new GivenStories(NONE);
+        }
+
+        private Lifecycle parseLifecycle(int beforeScenarioEnd) {
+            int lifecycle = tokens.last(LIFECYCLE, 0, beforeScenarioEnd);
+            if (lifecycle < 0) {
+                return new Lifecycle(ExamplesTable.EMPTY);
+            }
+            ExamplesTable examplesTable = parseExamplesTable(findExamplesTable(0, beforeScenarioEnd, false));
+            int from = trimStart(lifecycle + tokens.length(LIFECYCLE), beforeScenarioEnd);
+            int to = trimEnd(from, beforeScenarioEnd);
+            int after = tokens.last(AFTER, from, to);
+            int before = after >= 0 ? tokens.last(BEFORE, from, after) : -1;
+            if (before >= 0) {
+                List<Steps> beforeSteps = parseBeforeLifecycle(before + tokens.length(BEFORE), after);
+                List<Steps> afterSteps = parseAfterLifecycle(after + tokens.length(AFTER), to);
+                return new Lifecycle(examplesTable, beforeSteps, afterSteps);
+            }
+            before = tokens.last(BEFORE, from, to);
+            if (before >= 0) {
+                List<Steps> beforeSteps = parseBeforeLifecycle(before + tokens.length(BEFORE), to);
+                return new Lifecycle(examplesTable, beforeSteps, Arrays.<Steps>asList());
+            }
+            if (after >= 0) {
+                List<Steps> afterSteps = parseAfterLifecycle(after + tokens.length(AFTER), to);
+                return new Lifecycle(examplesTable, Arrays.<Steps>asList(), afterSteps);
+            }
+            return new Lifecycle(examplesTable);
+        }
+
+        private List<Steps> parseBeforeLifecycle(int from, int to) {
+            List<Steps> list = new ArrayList<>();
+            int start = trimStart(from, to);
+            int end = trimEnd(start, to);
+            for (int[] byScope : split(SCOPE, start, end)) {
+                int scopeStart = trimStart(byScope[0], byScope[1]);
+                int scopeEnd = trimEnd(scopeStart, byScope[1]);
+                if (scopeStart == scopeEnd) {
+                    continue;
+                }
+                Scope scope = parseScope(findScope(scopeStart, scopeEnd));
+                list.add(new Steps(scope, findSteps(scopeStart, scopeEnd, !startsWithNL(scopeStart, scopeEnd))));
+            }
+            return list;
+        }
+
+        private List<Steps> parseAfterLifecycle(int from, int to) {
+            List<Steps> list = new ArrayList<>();
+            int start = trimStart(from, to);
+            int end = trimEnd(start, to);
+            for (int[] byScope : split(SCOPE, start, end)) {
+                int scopeStart = trimStart(byScope[0], byScope[1]);
+                int scopeEnd = trimEnd(scopeStart, byScope[1]);
+                if (scopeStart == scopeEnd) {
+                    continue;
+                }
+                Scope scope = parseScope(findScope(scopeStart, scopeEnd));
+                for (int[] byOutcome : split(OUTCOME, scopeStart, scopeEnd)) {
+                    int outcomeStart = trimStart(byOutcome[0], byOutcome[1]);
+                    int outcomeEnd = trimEnd(outcomeStart, byOutcome[1]);
+                    if (outcomeStart == outcomeEnd) {
+                        continue;
+                    }
+                    String outcomeAsText = findOutcome(outcomeStart, outcomeEnd);
+                    String filtersAsText = findFilters(removeStart(outcomeStart, outcomeEnd, outcomeAsText),
+                            outcomeEnd);
+                    int stepsStart = removeStart(outcomeStart, outcomeEnd, filtersAsText);
+                    List<String> steps = findSteps(stepsStart, outcomeEnd, !startsWithNL(stepsStart, outcomeEnd));
+                    list.add(new Steps(scope, parseOutcome(outcomeAsText), parseFilters(filtersAsText), steps));
+                }
+            }
+            return list;
+        }
+
+        private String findScope(int from, int to) {
+            int end = earliest(tokens.first(OUTCOME, from, to), tokens.first(META_FILTER, from, to),
+                    findStepStart(from, to));
+            if (end >= 0) {
+                return text.substring(from, end).trim();
+            }
+            return NONE;
+        }
+
+        private Scope parseScope(String scopeAsText) {
+            if (scopeAsText.trim().equals(keywords.scopeStep())) {
+                return Scope.STEP;
+            } else if (scopeAsText.trim().equals(keywords.scopeScenario())) {
+                return Scope.SCENARIO;
+            } else if (scopeAsText.trim().equals(keywords.scopeStory())) {
+                return Scope.STORY;
+            }
+            return Scope.SCENARIO;
+        }
+
+        private String findOutcome(int from, int to) {
+            for (String outcome : Arrays.asList(keywords.outcomeAny(), keywords.outcomeSuccess(),
+                    keywords.outcomeFailure())) {
+                int end = from + outcome.length();
+                if (end <= to && text.startsWith(outcome, from) && followedByFiltersOrStep(end, to)) {
+                    return outcome.trim();
+                }
+            }
+            return keywords.outcomeAny();
+        }
+
+        private boolean followedByFiltersOrStep(int from, int to) {
+            for (int position = from; ; position++) {
+                if (tokens.startsAt(META_FILTER, position, to)
+                        || position < to && text.charAt(position) == '\n' && tokens.stepStart(position + 1, to) >= 0) {
+                    return true;
+                }
+                if (position == to || !isWhitespace(text.charAt(position))) {
+                    return false;
+                }
+            }
+        }
+
+        private Outcome parseOutcome(String outcomeAsText) {
+            if (outcomeAsText.equals(keywords.outcomeSuccess())) {
+                return Outcome.SUCCESS;
+            } else if (outcomeAsText.equals(keywords.outcomeFailure())) {
+                return Outcome.FAILURE;
+            }
+            return Outcome.ANY;
+        }
+
+        private String findFilters(int from, int to) {
+            int start = trimStart(from, to);
+            int end = trimEnd(start, to);
+            if (!tokens.startsAt(META_FILTER, start, end)) {
+                return NONE;
+            }
+            int filtersStart = start + tokens.length(META_FILTER);
+            int filtersEnd = filtersStart;
+            while (filtersEnd < end && isFiltersCharacter(text.charAt(filtersEnd))) {
+                filtersEnd++;
+            }
+            int step = tokens.lastStep(filtersStart, filtersEnd, end);
+            if (step >= 0) {
+                return text.substring(start, step).trim();
+            }
+            return NONE;
+        }
+
+        private boolean isFiltersCharacter(char c) {
+            return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '+'
+                    || c == '-' || isWhitespace(c);
+        }
+
+        private String parseFilters(String filtersAsText) {
+            return StringUtils.removeStart(filtersAsText, keywords.metaFilter()).trim();
+        }
+
+        private List<Scenario> parseScenarios(int firstScenario) {
+            List<Scenario> parsed = new ArrayList<>();
+            int from = firstScenario >= 0 ? firstScenario + tokens.length(SCENARIO) : 0;
+            List<int[]> elements = split(SCENARIO, from, text.length());
+            // as String.split, which the regex parser splits the scenarios with, drop the trailing empty elements
+            while (!elements.isEmpty() && isEmpty(elements.get(elements.size() - 1))) {
+                elements.remove(elements.size() - 1);
+            }
+            int scenarioStart = -1;
+            for (int i = 0; i < elements.size(); i++) {
+                int[] element = elements.get(i);
+                if (scenarioStart < 0) {
+                    scenarioStart = element[0];
+                }
+                // a scenario keyword following a comment is part of the scenario
+                if (isLastLineNotComment(element[0], element[1]) || i == elements.size() - 1) {
+                    if (!isBlank(scenarioStart, element[1])) {
+                        parsed.add(parseScenario(scenarioStart, element[1]));
+                    }
+                    scenarioStart = -1;
+                }
+            }
+            return parsed;
+        }
+
+        private boolean isEmpty(int[] part) {
+            return part[0] == part[1];
+        }
+
+        private boolean isLastLineNotComment(int from, int to) {
+            int lastLine = Math.max(text.lastIndexOf('\n', to - 1) + 1, from);
+            String ignorable = keywords.ignorable();
+            return !(lastLine + ignorable.length() <= to && text.startsWith(ignorable, lastLine));
+        }
+
+        private Scenario parseScenario(int from, int to) {
+            String title = findScenarioTitle(from, to);
+            int start = trimStart(from, to);
+            int end = trimEnd(start, to);
+            start = removeStart(start, end, title);
+            boolean newline = !startsWithNL(start, end);
+            Meta meta = findScenarioMeta(start, end);
+            String examplesTableAsString = findExamplesTable(start, end, newline);
+            ExamplesTable examplesTable = parseExamplesTable(examplesTableAsString);
+            GivenStories givenStories = findScenarioGivenStories(start, end, newline);
+            useExamplesTableForGivenStories(givenStories, examplesTable);
+            int stepsEnd = end;
+            if (!examplesTableAsString.trim().isEmpty()) {
+                stepsEnd = text.indexOf(examplesTableAsString, start) + examplesTableAsString.length();
+            }
+            List<String> steps = findSteps(start, stepsEnd, newline);
+            return new Scenario(title, meta, givenStories, examplesTable, steps);
+        }
+
+        // the title of the scenario, preceded by a newline as the scenario is by the regex parser
+        private String findScenarioTitle(int from, int to) {
+            if (tokens.stepStart(from, to) >= 0) {
+                return NONE;
+            }
+            int end = earliest(tokens.first(META, from, to), tokens.first(GIVEN_STORIES, from, to),
+                    findStepStart(from, to), endOfText(from, to, from));
+            return text.substring(from, end).trim();
+        }
+
+        private Meta findScenarioMeta(int from, int to) {
+            int meta = from;
+            while (meta < to && isWhitespace(text.charAt(meta))) {
+                meta++;
+            }
+            if (tokens.startsAt(META, meta, to)) {
+                int metaStart = meta + tokens.length(META);
+                int end = earliest(tokens.first(GIVEN_STORIES, metaStart, to), findStepStart(metaStart, to),
+                        endOfText(from, to, metaStart));
+                return Meta.createMeta(text.substring(metaStart, end).trim(), keywords);
+            }
+            return Meta.EMPTY;
+        }
+
+        private String findExamplesTable(int from, int to, boolean newline) {
+            int examplesTable = firstAtLineStart(EXAMPLES_TABLE, from, to, newline);
+            if (examplesTable >= 0) {
+                int start = examplesTable + tokens.length(EXAMPLES_TABLE);
+                while (start < to && isWhitespace(text.charAt(start))) {
+                    start++;
+                }
+                int end = earliest(tokens.firstIgnorable(start, to), endOfText(from, to, start));
+                return text.substring(start, end).trim();
+            }
+            return NONE;
+        }
+
+        private ExamplesTable parseExamplesTable(String tableInput) {
+            return tableFactory.createExamplesTable(tableInput);
+        }
+
+        private GivenStories findScenarioGivenStories(int from, int to, boolean newline) {
+            int givenStories = firstAtLineStart(GIVEN_STORIES, from, to, newline);
+            if (givenStories >= 0) {
+                int start = givenStories + tokens.length(GIVEN_STORIES);
+                int end = findStepStart(start, to);
+                if (end >= 0) {
+                    return new GivenStories(text.substring(start, end).trim());
+                }
+            }
+            return new GivenStories(NONE);
+        }
+
+        private void useExamplesTableForGivenStories(GivenStories givenStories, ExamplesTable examplesTable) {
+            if (givenStories.requireParameters()) {
+                givenStories.useExamplesTable(examplesTable);
+            }
+        }
+
+        private List<String> findSteps(int from, int to, boolean newline) {
+            List<String> steps = new ArrayList<>();
+            // the newline preceding the part, if any, is at the position before it, which is -1 for the whole text
+            boolean afterNewline = newline && tokens.stepStart(from, to) >= 0;
+            int step = afterNewline ? from - 1 : tokens.firstStep(from, to);
+            while (afterNewline || step >= 0) {
+                int stepStart = tokens.stepStart(step + 1, to);
+                int end = earliest(endOfText(from, to, stepStart), findStepStart(stepStart, to),
+                        findExamplesTableStart(stepStart, to));
+                steps.add(text.substring(step + 1, end));
+                afterNewline = false;
+                step = tokens.firstStep(end, to);
+            }
+            return steps;
+        }
+
+        /**
+         * Returns the start of the first step, with the carriage return preceding its newline if any, or -1
+         */
+        private int findStepStart(int from, int to) {
+            return withCarriageReturn(tokens.firstStep(from, to), from);
+        }
+
+        private int findExamplesTableStart(int from, int to) {
+            int examplesTable = tokens.firstAtLineStart(EXAMPLES_TABLE, from + 1, to);
+            return examplesTable >= 0 ? withCarriageReturn(examplesTable - 1, from) : -1;
+        }
+
+        private int withCarriageReturn(int newline, int from) {
+            if (newline > from && text.charAt(newline - 1) == '\r') {
+                return newline - 1;
+            }
+            return newline;
+        }
+
+        private int firstAtLineStart(Keyword keyword, int from, int to, boolean newline) {
+            if (newline && tokens.startsAt(keyword, from, to)) {
+                return from;
+            }
+            return tokens.firstAtLineStart(keyword, from + 1, to);
+        }
+
+        /**
+         * Splits the given part of the text by the given keyword, as String.split does but keeping the trailing
+         * empty parts.
+         */
+        private List<int[]> split(Keyword keyword, int from, int to) {
+            List<int[]> parts = new ArrayList<>();
+            int start = from;
+            for (int found = tokens.first(keyword, from, to); found >= 0;
+                    found = tokens.first(keyword, start, to)) {
+                parts.add(new int[] { start, found });
+                start = found + tokens.length(keyword);
+            }
+            parts.add(new int[] { start, to });
+            return parts;
+        }
+
+        /**
+         * Returns the first position, not before the given one, matched by <code>\Z</code> in the given part of the
+         * text, i.e. its end or the start of its final line terminator
+         */
+        private int endOfText(int from, int to, int position) {
+            int start = Math.max(from, position);
+            if (to - 2 >= start && text.charAt(to - 2) == '\r' && text.charAt(to - 1) == '\n') {
+                return to - 2;
+            }
+            if (to - 1 >= start) {
+                char last = text.charAt(to - 1);
+                if (last == '\n' ? to - 2 < from || text.charAt(to - 2) != '\r'
+                        : last == '\r' || last == '\u0085' || last == '\u2028' || last == '\u2029') {
+                    return to - 1;
+                }
+            }
+            return to;
+        }
+
+        private int removeStart(int from, int to, String remove) {
+            if (!remove.isEmpty() && from + remove.length() <= to && text.startsWith(remove, from)) {
+                return from + remove.length();
+            }
+            return from;
+        }
+
+        private boolean startsWithNL(int from, int to) {
+            return from < to && text.charAt(from) == '\n';
+        }
+
+        private boolean isBlank(int from, int to) {
+            return trimStart(from, to) == to;
+        }
+
+        private int trimStart(int from, int to) {
+            int start = from;
+            while (start < to && text.charAt(start) <= ' ') {
+                start++;
+            }
+            return start;
+        }
+
+        private int trimEnd(int from, int to) {
+            int end = to;
+            while (end > from && text.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            return end;
+        }
+    }
+
+    private static int earliest(int... positions) {
+        int earliest = -1;
+        for (int position : positions) {
+            if (position >= 0 && (earliest < 0 || position < earliest)) {
+                earliest = position;
+            }
+        }
+        return earliest;
+    }
+}
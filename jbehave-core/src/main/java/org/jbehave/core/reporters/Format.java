@@ -95,7 +95,8 @@ public abstract class Format {
         public StoryReporter createStoryReporter(FilePrintStreamFactory factory,
                 StoryReporterBuilder storyReporterBuilder) {
             factory.useConfiguration(storyReporterBuilder.fileConfiguration("html"));
-            return new HtmlTemplateOutput(factory.getOutputFile(), storyReporterBuilder.keywords());
+            return new HtmlTemplateOutput(factory.getOutputFile(), storyReporterBuilder.keywords())
+                    .doStreaming(storyReporterBuilder.streamingTemplateOutput());
         }
     };
 
@@ -104,7 +105,8 @@ public abstract class Format {
         public StoryReporter createStoryReporter(FilePrintStreamFactory factory,
                 StoryReporterBuilder storyReporterBuilder) {
             factory.useConfiguration(storyReporterBuilder.fileConfiguration("xml"));
-            return new XmlTemplateOutput(factory.getOutputFile(), storyReporterBuilder.keywords());
+            return new XmlTemplateOutput(factory.getOutputFile(), storyReporterBuilder.keywords())
+                    .doStreaming(storyReporterBuilder.streamingTemplateOutput());
         }
     };
 
@@ -113,7 +115,8 @@ public abstract class Format {
         public StoryReporter createStoryReporter(FilePrintStreamFactory factory,
                                                  StoryReporterBuilder storyReporterBuilder) {
             factory.useConfiguration(storyReporterBuilder.fileConfiguration("json"));
-            return new JsonTemplateOutput(factory.getOutputFile(), storyReporterBuilder.keywords());
+            return new JsonTemplateOutput(factory.getOutputFile(), storyReporterBuilder.keywords())
+                    .doStreaming(storyReporterBuilder.streamingTemplateOutput());
         }
     };
 
@@ -3,13 +3,31 @@ package org.jbehave.core.reporters;
 import java.io.Writer;
 import java.util.Map;
 
+import freemarker.cache.MruCacheStorage;
 import freemarker.ext.beans.BeansWrapperBuilder;
 import freemarker.template.Configuration;
 import freemarker.template.Version;
 
+/**
+ * <p>
+ * {@link TemplateProcessor} using Freemarker templates loaded from the classpath.
+ * </p>
+ * <p>
+ * Each processor creates its Freemarker {@link Configuration} lazily, via {@link #configuration()}, and reuses it
+ * across the templates it processes, so that each template is read and parsed once per processor. The processors of
+ * this class loading templates from its class loader, i.e. the default template outputs and views, all share the same
+ * configuration, which is released with this class. As the templates are loaded from the classpath, they are never
+ * checked for updates. The parsed templates are kept in a bounded cache, holding at most
+ * {@link #TEMPLATE_CACHE_SIZE} templates strongly referenced.
+ * </p>
+ */
 public class FreemarkerProcessor implements TemplateProcessor {
+
+    public static final int TEMPLATE_CACHE_SIZE = 50;
+
     private ClassLoader templateLoadingFrom;
-        
+    private volatile Configuration templateConfiguration;
+
     public FreemarkerProcessor() {
         this(FreemarkerProcessor.class);
     }
@@ -24,7 +42,7 @@ public class FreemarkerProcessor implements TemplateProcessor {
 
     @Override
     public void process(String resource, Map<String, Object> dataModel, Writer writer) {
-        Configuration configuration = configuration();
+        Configuration configuration = templateConfiguration();
         try {
             configuration.getTemplate(resource).process(dataModel, writer);
         } catch (Exception e) {
@@ -32,14 +50,51 @@ public class FreemarkerProcessor implements TemplateProcessor {
         }
     }
 
+    /**
+     * Returns a new configuration loading templates from the class loader of this processor. It is called once by
+     * this processor to create the configuration it processes the templates with, so subclasses can override it to
+     * customise that configuration, while the configurations returned to other callers are free to modify without
+     * affecting the processing of this or other processors
+     *
+     * @return The Freemarker Configuration
+     */
     public Configuration configuration() {
+        return newConfiguration(templateLoadingFrom);
+    }
+
+    Configuration templateConfiguration() {
+        Configuration configuration = templateConfiguration;
+        if (configuration == null) {
+            synchronized (this) {
+                configuration = templateConfiguration;
+                if (configuration == null) {
+                    if (getClass() == FreemarkerProcessor.class
+                            && templateLoadingFrom == FreemarkerProcessor.class.getClassLoader()) {
+                        configuration = DefaultConfiguration.INSTANCE;
+                    } else {
+                        configuration = configuration();
+                    }
+                    templateConfiguration = configuration;
+                }
+            }
+        }
+        return configuration;
+    }
+
+    private static Configuration newConfiguration(ClassLoader templateLoadingFrom) {
         Version incompatibleImprovementsVersion = Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS;
         Configuration configuration = new Configuration(incompatibleImprovementsVersion);
         configuration.setClassLoaderForTemplateLoading(templateLoadingFrom, "/");
         configuration.setObjectWrapper(new BeansWrapperBuilder(incompatibleImprovementsVersion).build());
+        configuration.setCacheStorage(new MruCacheStorage(TEMPLATE_CACHE_SIZE, Integer.MAX_VALUE));
+        configuration.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
         return configuration;
     }
 
+    private static final class DefaultConfiguration {
+        private static final Configuration INSTANCE = newConfiguration(FreemarkerProcessor.class.getClassLoader());
+    }
+
     @SuppressWarnings("serial")
     public static class FreemarkerProcessingFailed extends RuntimeException {
 
@@ -48,7 +103,7 @@ public class FreemarkerProcessor implements TemplateProcessor {
             super("Freemarker failed to process template " + resource + " using configuration " + configuration
                     + " and data model " + dataModel, cause);
         }
-        
+
     }
 
 }
@@ -91,6 +91,18 @@ import org.jbehave.core.reporters.FilePrintStreamFactory.FilePathResolver;
  * </p>
  * 
  * <p>
+ * The template-based formats, i.e. <b>HTML_TEMPLATE</b>, <b>XML_TEMPLATE</b> and
+ * <b>JSON_TEMPLATE</b>, collect the whole story in memory before processing the
+ * template. To stream the scenarios and examples as they finish instead,
+ * keeping the memory used by long stories bounded:
+ * 
+ * <pre>
+ * new StoryReporterBuilder().withStreamingTemplateOutput(true)
+ * </pre>
+ * 
+ * </p>
+ * 
+ * <p>
  * To specify the use of keywords for a given locale:
  * 
  * <pre>
@@ -136,6 +148,7 @@ public class StoryReporterBuilder {
     protected SGRCodes codes;
     protected SurefireReporter surefireReporter;
     protected boolean multiThreading;
+    protected boolean streamingTemplateOutput;
     protected Configuration configuration;
     private FileConfiguration defaultFileConfiguration = new FileConfiguration();
 
@@ -212,6 +225,10 @@ public class StoryReporterBuilder {
         return multiThreading;
     }
 
+    public boolean streamingTemplateOutput() {
+        return streamingTemplateOutput;
+    }
+
     public boolean reportFailureTrace() {
         return reportFailureTrace;
     }
@@ -303,6 +320,11 @@ public class StoryReporterBuilder {
         return this;
     }
 
+    public StoryReporterBuilder withStreamingTemplateOutput(boolean streamingTemplateOutput) {
+        this.streamingTemplateOutput = streamingTemplateOutput;
+        return this;
+    }
+
     public StoryReporterBuilder withViewResources(Properties resources) {
         this.viewResources = resources;
         return this;
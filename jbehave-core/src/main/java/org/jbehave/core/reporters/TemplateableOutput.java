@@ -8,17 +8,22 @@ import static org.jbehave.core.steps.StepCreator.PARAMETER_VERBATIM_END;
 import static org.jbehave.core.steps.StepCreator.PARAMETER_VERBATIM_START;
 
 import java.io.File;
+import java.io.FileReader;
 import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jbehave.core.annotations.AfterScenario.Outcome;
 import org.jbehave.core.annotations.Scope;
@@ -47,6 +52,16 @@ import freemarker.template.TemplateModelException;
  * <p>
  * Story reporter that outputs to a template.
  * </p>
+ * <p>
+ * By default, the whole story is collected in memory and the template is processed once the story is finished.
+ * If {@link #doStreaming(boolean) streaming} is enabled, the examples and scenarios are instead rendered, as soon as
+ * they are finished, to a temporary file, so that the memory used by a story does not grow with the number of its
+ * scenarios and examples. The story start, which may be updated until the end of the story, is rendered when the
+ * story is finished and is followed by the streamed content. The template must then be able to render the fragments
+ * of the story, as the default HTML, XML and JSON templates do via <b>ftl/jbehave-output-fragments.ftl</b>. The
+ * output is the same in both modes: as the steps of the examples with the same parameters are merged, a scenario
+ * whose examples table has duplicate rows is collected and rendered as a whole once it is finished.
+ * </p>
  */
 public class TemplateableOutput extends NullStoryReporter {
 
@@ -60,6 +75,13 @@ public class TemplateableOutput extends NullStoryReporter {
     private OutputStep pendingStep;
     private Scope scope;
     private StepCollector.Stage stage;
+    private boolean streaming;
+    private TemplateHashModel escapeEnums;
+    private Spill storySpill;
+    private Spill examplesSpill;
+    private Map<String, String> pendingExample;
+    private boolean scenarioEndPending;
+    private boolean mergingExamples;
 
     public TemplateableOutput(File file, Keywords keywords, TemplateProcessor processor, String templatePath) {
         this.file = file;
@@ -68,6 +90,17 @@ public class TemplateableOutput extends NullStoryReporter {
         this.templatePath = templatePath;
     }
 
+    /**
+     * Enables or disables the streaming of the output
+     *
+     * @param streaming the boolean flag
+     * @return This TemplateableOutput
+     */
+    public TemplateableOutput doStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
     @Override
     public void storyExcluded(Story story, String filter) {
         this.outputStory.excludedBy = filter;
@@ -81,6 +114,9 @@ public class TemplateableOutput extends NullStoryReporter {
             this.outputStory.path = story.getPath();
             this.scope = Scope.STORY;
             this.stage = StepCollector.Stage.BEFORE;
+            if (streaming) {
+                startStreaming();
+            }
         }
         if (!story.getMeta().isEmpty()) {
             this.outputStory.meta = new OutputMeta(story.getMeta());
@@ -188,11 +224,24 @@ public class TemplateableOutput extends NullStoryReporter {
     public void beforeExamples(List<String> steps, ExamplesTable table) {
         this.outputScenario.examplesSteps = steps;
         this.outputScenario.examplesTable = table;
+        if (streaming) {
+            this.mergingExamples = hasDuplicateRows(table);
+        }
+    }
+
+    private static boolean hasDuplicateRows(ExamplesTable table) {
+        List<Map<String, String>> rows = table.getRows();
+        return new HashSet<>(rows).size() < rows.size();
     }
 
     @Override
     public void example(Map<String, String> parameters, int exampleIndex) {
-        this.outputScenario.examples.add(parameters);
+        if (streaming && !mergingExamples) {
+            streamPendingExample(true);
+            this.pendingExample = parameters;
+        } else {
+            this.outputScenario.examples.add(parameters);
+        }
         this.outputScenario.currentExample = parameters;
     }
 
@@ -204,7 +253,11 @@ public class TemplateableOutput extends NullStoryReporter {
     @Override
     public void afterScenario(Timing timing) {
         if (this.outputScenario.currentExample == null) {
-            this.outputStory.scenarios.add(outputScenario);
+            if (streaming) {
+                streamScenario();
+            } else {
+                this.outputStory.scenarios.add(outputScenario);
+            }
         }
         this.scope = Scope.STORY;
         this.stage = StepCollector.Stage.AFTER;
@@ -234,22 +287,11 @@ public class TemplateableOutput extends NullStoryReporter {
     @Override
     public void afterStory(boolean givenStory) {
         if (!givenStory) {
-            Map<String, Object> model = newDataModel();
-            model.put("story", outputStory);
-            model.put("keywords", new OutputKeywords(keywords));
-
-            TemplateHashModel enumModels =
-                    new BeansWrapperBuilder(Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS).build().getEnumModels();
-            TemplateHashModel escapeEnums;
-            try {
-                String escapeModeEnum = EscapeMode.class.getCanonicalName();
-                escapeEnums = (TemplateHashModel) enumModels.get(escapeModeEnum);
-                model.put("EscapeMode", escapeEnums);  
-            } catch (TemplateModelException e) {
-                throw new IllegalArgumentException(e);
-            }  
-
-            write(file, templatePath, model);
+            if (streaming) {
+                finishStreaming();
+            } else {
+                write(file, templatePath, newDataModel());
+            }
         }
     }
 
@@ -265,8 +307,172 @@ public class TemplateableOutput extends NullStoryReporter {
         }
     }
 
+    private void startStreaming() {
+        closeSpills();
+        this.storySpill = new Spill();
+        this.pendingExample = null;
+        this.scenarioEndPending = false;
+        this.mergingExamples = false;
+    }
+
+    private void streamPendingExample(boolean hasNext) {
+        if (pendingExample != null) {
+            if (examplesSpill == null) {
+                examplesSpill = new Spill();
+            }
+            Map<String, Object> fragment = newFragmentModel("example");
+            fragment.put("scenario", outputScenario);
+            fragment.put("example", pendingExample);
+            fragment.put("hasNext", hasNext);
+            writeFragment(fragment, examplesSpill.writer());
+            // the steps of the streamed example are no longer needed
+            outputScenario.stepsByExample.remove(pendingExample);
+            pendingExample = null;
+        }
+    }
+
+    private void streamScenario() {
+        Writer writer = storySpill.writer();
+        streamPendingScenarioEnd(writer, true);
+        Map<String, Object> scenarioStart = newFragmentModel("scenarioStart");
+        scenarioStart.put("scenario", outputScenario);
+        writeFragment(scenarioStart, writer);
+        if (mergingExamples) {
+            List<Map<String, String>> examples = outputScenario.examples;
+            for (int i = 0; i < examples.size(); i++) {
+                Map<String, Object> example = newFragmentModel("example");
+                example.put("scenario", outputScenario);
+                example.put("example", examples.get(i));
+                example.put("hasNext", i < examples.size() - 1);
+                writeFragment(example, writer);
+            }
+            mergingExamples = false;
+        } else if (outputScenario.examplesTable != null) {
+            streamPendingExample(false);
+            if (examplesSpill != null) {
+                examplesSpill.copyTo(writer);
+                examplesSpill.close();
+                examplesSpill = null;
+            }
+        } else {
+            Map<String, Object> scenarioSteps = newFragmentModel("scenarioSteps");
+            scenarioSteps.put("scenario", outputScenario);
+            writeFragment(scenarioSteps, writer);
+        }
+        scenarioEndPending = true;
+    }
+
+    private void streamPendingScenarioEnd(Writer writer, boolean hasNext) {
+        if (scenarioEndPending) {
+            Map<String, Object> scenarioEnd = newFragmentModel("scenarioEnd");
+            scenarioEnd.put("hasNext", hasNext);
+            writeFragment(scenarioEnd, writer);
+            scenarioEndPending = false;
+        }
+    }
+
+    private void finishStreaming() {
+        try {
+            file.getParentFile().mkdirs();
+            try (Writer writer = new FileWriter(file)) {
+                writeFragment(newFragmentModel("storyStart"), writer);
+                storySpill.copyTo(writer);
+                streamPendingScenarioEnd(writer, false);
+                writeFragment(newFragmentModel("storyEnd"), writer);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(templatePath, e);
+        } finally {
+            closeSpills();
+        }
+    }
+
+    private void writeFragment(Map<String, Object> dataModel, Writer writer) {
+        try {
+            processor.process(templatePath, dataModel, writer);
+        } catch (Exception e) {
+            throw new RuntimeException(templatePath, e);
+        }
+    }
+
+    private void closeSpills() {
+        if (examplesSpill != null) {
+            examplesSpill.close();
+            examplesSpill = null;
+        }
+        if (storySpill != null) {
+            storySpill.close();
+            storySpill = null;
+        }
+    }
+
+    private Map<String, Object> newFragmentModel(String fragment) {
+        Map<String, Object> model = newDataModel();
+        model.put("fragment", fragment);
+        return model;
+    }
+
     private Map<String, Object> newDataModel() {
-        return new HashMap<>();
+        Map<String, Object> model = new HashMap<>();
+        model.put("story", outputStory);
+        model.put("keywords", new OutputKeywords(keywords));
+        model.put("EscapeMode", escapeEnums());
+        return model;
+    }
+
+    private TemplateHashModel escapeEnums() {
+        if (escapeEnums == null) {
+            TemplateHashModel enumModels =
+                    new BeansWrapperBuilder(Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS).build().getEnumModels();
+            try {
+                String escapeModeEnum = EscapeMode.class.getCanonicalName();
+                escapeEnums = (TemplateHashModel) enumModels.get(escapeModeEnum);
+            } catch (TemplateModelException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+        return escapeEnums;
+    }
+
+    /**
+     * Temporary file to which the streamed fragments are written
+     */
+    private static class Spill {
+        private final File file;
+        private final Writer writer;
+
+        private Spill() {
+            try {
+                this.file = File.createTempFile("jbehave-output", ".tmp");
+                this.writer = new FileWriter(file);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to create temporary output file", e);
+            }
+        }
+
+        private Writer writer() {
+            return writer;
+        }
+
+        private void copyTo(Writer target) {
+            try {
+                writer.flush();
+                try (Reader reader = new FileReader(file)) {
+                    IOUtils.copy(reader, target);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(file.getPath(), e);
+            }
+        }
+
+        private void close() {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                // the file is deleted anyway
+            }
+            file.delete();
+        }
     }
 
     public static class OutputKeywords {
@@ -24,6 +24,11 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
@@ -52,8 +57,15 @@ import org.jbehave.core.reporters.TemplateableViewGenerator.Reports.ViewType;
  * &quot;decorateNonHtml&quot; = &quot;true&quot;
  * &quot;defaultFormats&quot; = &quot;stats&quot;
  * &quot;viewDirectory&quot; = &quot;view&quot;
+ * &quot;reportsThreads&quot; = &quot;1&quot;
+ * &quot;incrementalReports&quot; = &quot;false&quot;
  * </pre>
  * </p>
+ *
+ * <p>The single reports are rendered using as many threads as specified by &quot;reportsThreads&quot;, so the
+ * configured {@link TemplateProcessor} must be thread-safe if more than one thread is used. If
+ * &quot;incrementalReports&quot; is enabled, a report is rendered again only if its view is older than the report
+ * itself, i.e. changes to the templates are not detected and require a clean view directory.</p>
  * 
  * @author Mauro Talevi
  */
@@ -84,6 +96,8 @@ public class TemplateableViewGenerator implements ViewGenerator {
         properties.setProperty("version", jbehaveVersion());
         properties.setProperty("reportsViewType", Reports.ViewType.LIST.name());
         properties.setProperty("viewDirectory", "view");
+        properties.setProperty("reportsThreads", "1");
+        properties.setProperty("incrementalReports", "false");
         return properties;
     }
 
@@ -213,41 +227,66 @@ public class TemplateableViewGenerator implements ViewGenerator {
 
     Reports createReports(Map<String, List<File>> reportFiles) {
         try {
-            String decoratedTemplate = templateResource("decorated");
-            String nonDecoratedTemplate = templateResource("nonDecorated");
-            String viewDirectory = templateResource("viewDirectory");
-            boolean decorateNonHtml = Boolean.valueOf(templateResource("decorateNonHtml"));
+            int threads = Integer.parseInt(templateResource("reportsThreads"));
             List<Report> reports = new ArrayList<>();
-            for (String name : reportFiles.keySet()) {
-                Map<String, File> filesByFormat = new HashMap<>();
-                for (File file : reportFiles.get(name)) {
-                    String fileName = file.getName();
-                    String format = FilenameUtils.getExtension(fileName);
-                    Map<String, Object> dataModel = newDataModel();
-                    dataModel.put("name", name);
-                    dataModel.put("body", FileUtils.readFileToString(file, charset));
-                    dataModel.put("format", format);
-                    File outputDirectory = file.getParentFile();
-                    String outputName = viewDirectory + "/" + fileName;
-                    String template = decoratedTemplate;
-                    if (!format.equals("html")) {
-                        if (decorateNonHtml) {
-                            outputName = outputName + ".html";
-                        } else {
-                            template = nonDecoratedTemplate;
-                        }
+            if (threads > 1 && reportFiles.size() > 1) {
+                ExecutorService executorService = Executors.newFixedThreadPool(threads);
+                try {
+                    List<Future<Report>> futures = new ArrayList<>();
+                    for (String name : reportFiles.keySet()) {
+                        futures.add(executorService.submit(() -> createReport(name, reportFiles.get(name))));
+                    }
+                    for (Future<Report> future : futures) {
+                        reports.add(future.get());
                     }
-                    File written = write(outputDirectory, outputName, template, dataModel);
-                    filesByFormat.put(format, written);
+                } finally {
+                    executorService.shutdownNow();
+                }
+            } else {
+                for (String name : reportFiles.keySet()) {
+                    reports.add(createReport(name, reportFiles.get(name)));
                 }
-                reports.add(new Report(name, filesByFormat));
             }
             return new Reports(reports, nameResolver);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw new ReportCreationFailed(reportFiles, cause instanceof Exception ? (Exception) cause : e);
         } catch (Exception e) {
             throw new ReportCreationFailed(reportFiles, e);
         }
     }
 
+    private Report createReport(String name, List<File> files) throws IOException {
+        String viewDirectory = templateResource("viewDirectory");
+        boolean decorateNonHtml = Boolean.valueOf(templateResource("decorateNonHtml"));
+        boolean incremental = Boolean.valueOf(templateResource("incrementalReports"));
+        Map<String, File> filesByFormat = new HashMap<>();
+        for (File file : files) {
+            String fileName = file.getName();
+            String format = FilenameUtils.getExtension(fileName);
+            File outputDirectory = file.getParentFile();
+            String outputName = viewDirectory + "/" + fileName;
+            String template = templateResource("decorated");
+            if (!format.equals("html")) {
+                if (decorateNonHtml) {
+                    outputName = outputName + ".html";
+                } else {
+                    template = templateResource("nonDecorated");
+                }
+            }
+            File written = new File(outputDirectory, outputName);
+            if (!incremental || written.lastModified() < file.lastModified()) {
+                Map<String, Object> dataModel = newDataModel();
+                dataModel.put("name", name);
+                dataModel.put("body", FileUtils.readFileToString(file, charset));
+                dataModel.put("format", format);
+                written = write(outputDirectory, outputName, template, dataModel);
+            }
+            filesByFormat.put(format, written);
+        }
+        return new Report(name, filesByFormat);
+    }
+
     SortedMap<String, List<File>> readReportFiles(File outputDirectory, final String outputName,
             final List<String> formats) {
         SortedMap<String, List<File>> reportFiles = new TreeMap<>();
@@ -393,6 +432,7 @@ public class TemplateableViewGenerator implements ViewGenerator {
 
         private final String path;
         private final Map<String, File> filesByFormat;
+        private final Map<String, Properties> propertiesByFormat = new ConcurrentHashMap<>();
         private Map<String, Integer> stats;
         private String name;
 
@@ -423,12 +463,15 @@ public class TemplateableViewGenerator implements ViewGenerator {
         }
 
         public Properties asProperties(String format) {
+            Properties p = propertiesByFormat.computeIfAbsent(format, this::loadProperties);
+            return (Properties) p.clone();
+        }
+
+        private Properties loadProperties(String format) {
             Properties p = new Properties();
-            File stats = filesByFormat.get(format);
-            try {
-                InputStream inputStream = new FileInputStream(stats);
+            File file = filesByFormat.get(format);
+            try (InputStream inputStream = new FileInputStream(file)) {
                 p.load(inputStream);
-                inputStream.close();
             } catch (Exception e) {
                 // return empty map
             }
@@ -4,6 +4,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -20,12 +21,15 @@ import org.jbehave.core.steps.ParameterConverters.ParameterConverter;
  * </p>
  * <p>
  * The object instances are also inspected for methods annotated by {@link AsParameterConverter}
- * and the {@link ParameterConverter} is configured accordingly.
+ * and the {@link ParameterConverter} is configured accordingly, once per type
+ * for the same {@link ParameterConverters}.
  * </p>
  */
 public abstract class AbstractStepsFactory implements InjectableStepsFactory {
 
     private final Configuration configuration;
+    private final Set<Class<?>> typesWithConvertersAdded = new HashSet<>();
+    private ParameterConverters convertersAddedTo;
 
     public AbstractStepsFactory(Configuration configuration) {
         this.configuration = configuration;
@@ -36,8 +40,7 @@ public abstract class AbstractStepsFactory implements InjectableStepsFactory {
         List<Class<?>> types = stepsTypes();
         List<CandidateSteps> steps = new ArrayList<>();
         for (Class<?> type : types) {
-            configuration.parameterConverters().addConverters(
-                    methodReturningConverters(type));
+            addMethodReturningConverters(configuration.parameterConverters(), type);
             steps.add(new Steps(configuration, type, this));
         }
         Set<String> compositePaths = configuration.compositePaths();
@@ -49,6 +52,16 @@ public abstract class AbstractStepsFactory implements InjectableStepsFactory {
 
     protected abstract List<Class<?>> stepsTypes();
 
+    private synchronized void addMethodReturningConverters(ParameterConverters parameterConverters, Class<?> type) {
+        if (parameterConverters != convertersAddedTo) {
+            typesWithConvertersAdded.clear();
+            convertersAddedTo = parameterConverters;
+        }
+        if (typesWithConvertersAdded.add(type)) {
+            parameterConverters.addConverters(methodReturningConverters(type));
+        }
+    }
+
     /**
      * Create parameter converters from methods annotated with @AsParameterConverter
      */
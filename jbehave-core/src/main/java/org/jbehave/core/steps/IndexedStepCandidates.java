@@ -0,0 +1,294 @@
+package org.jbehave.core.steps;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
+
+/**
+ * <p>
+ * A list of {@link StepCandidate}s backed by a matching index, which allows to find the candidates that
+ * could plausibly match a textual step without testing the step against the pattern of every candidate.
+ * </p>
+ * <p>
+ * The candidates are bucketed by {@link StepType} and, within each bucket, stored in a trie keyed on the literal
+ * prefix of their pattern, i.e. the characters that any matching step must start with once its starting word is
+ * stripped. Whitespace is normalised in both the prefixes and the looked up steps, as the patterns match any amount
+ * of whitespace. Candidates whose literal prefix cannot be determined are stored at the root of the trie and are
+ * therefore always considered plausible.
+ * </p>
+ * <p>
+ * The plausible candidates are returned in the same order as in the list, so that prioritising them yields the same
+ * order as prioritising all the candidates. The list remains modifiable: any modification discards the index, which
+ * is lazily rebuilt on the next look-up.
+ * </p>
+ */
+public class IndexedStepCandidates extends AbstractList<StepCandidate> {
+
+    private static final int SUPPORTED_FLAGS = Pattern.DOTALL | Pattern.MULTILINE;
+
+    private final List<StepCandidate> candidates;
+    private final StepResolutionCache resolutionCache;
+    private volatile Index index;
+
+    public IndexedStepCandidates(List<StepCandidate> candidates) {
+        this.candidates = new ArrayList<>(candidates);
+        this.resolutionCache = null;
+        this.index = new Index(this.candidates);
+    }
+
+    private IndexedStepCandidates(IndexedStepCandidates candidates, StepResolutionCache resolutionCache) {
+        this.candidates = new ArrayList<>(candidates.candidates);
+        this.resolutionCache = resolutionCache;
+        this.index = candidates.index;
+    }
+
+    /**
+     * Creates a copy of these candidates, sharing their index, whose step resolutions are memoised in the given
+     * cache.
+     *
+     * @param resolutionCache the StepResolutionCache
+     * @return The IndexedStepCandidates using the cache
+     */
+    public IndexedStepCandidates withResolutionCache(StepResolutionCache resolutionCache) {
+        return new IndexedStepCandidates(this, resolutionCache);
+    }
+
+    public StepResolutionCache getResolutionCache() {
+        return resolutionCache;
+    }
+
+    @Override
+    public StepCandidate get(int index) {
+        return candidates.get(index);
+    }
+
+    @Override
+    public int size() {
+        return candidates.size();
+    }
+
+    @Override
+    public StepCandidate set(int index, StepCandidate candidate) {
+        this.index = null;
+        return candidates.set(index, candidate);
+    }
+
+    @Override
+    public void add(int index, StepCandidate candidate) {
+        this.index = null;
+        modCount++;
+        candidates.add(index, candidate);
+    }
+
+    @Override
+    public StepCandidate remove(int index) {
+        this.index = null;
+        modCount++;
+        return candidates.remove(index);
+    }
+
+    /**
+     * Finds the candidates which could match the given step, in the order in which they appear in this list. The
+     * returned candidates still need to be matched against the step.
+     *
+     * @param stepAsString the textual step
+     * @param previousNonAndStep the previous non-AND step, may be <code>null</code>
+     * @return The List of plausible StepCandidates
+     */
+    public List<StepCandidate> candidatesFor(String stepAsString, String previousNonAndStep) {
+        Index current = index;
+        if (current == null) {
+            current = new Index(candidates);
+            index = current;
+        }
+        return current.candidatesFor(stepAsString, previousNonAndStep);
+    }
+
+    /**
+     * Determines the literal characters, with normalised whitespace, that any step matched by the candidate must
+     * start with once its starting word is stripped.
+     *
+     * @param candidate the StepCandidate
+     * @return The literal prefix, possibly empty
+     */
+    public static String literalPrefix(StepCandidate candidate) {
+        if (candidate.getPatternAsString() == null) {
+            return "";
+        }
+        String patternPrefix = normaliseWhitespace(candidate.getPatternAsString());
+        String regexPrefix;
+        try {
+            regexPrefix = literalPrefix(candidate.getStepMatcher().matcher("").pattern());
+        } catch (RuntimeException e) {
+            return "";
+        }
+        // steps equal to the pattern as string also match, so the prefix must be common to both
+        int length = 0;
+        int max = Math.min(patternPrefix.length(), regexPrefix.length());
+        while (length < max && patternPrefix.charAt(length) == regexPrefix.charAt(length)) {
+            length++;
+        }
+        return regexPrefix.substring(0, length);
+    }
+
+    /**
+     * Determines the literal characters that any input matched by the pattern must start with, normalising any
+     * whitespace sequence to a single space. The prefix is conservative: parsing stops at the first construct which
+     * is not a literal character or a <code>\s+</code> whitespace sequence.
+     */
+    static String literalPrefix(Pattern pattern) {
+        String regex = pattern.pattern();
+        if ((pattern.flags() & ~SUPPORTED_FLAGS) != 0 || hasTopLevelAlternation(regex)) {
+            return "";
+        }
+        StringBuilder prefix = new StringBuilder();
+        int lastUnitStart = 0;
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            int unitStart = prefix.length();
+            if (c == '\\') {
+                if (i + 1 >= regex.length()) {
+                    break;
+                }
+                char escaped = regex.charAt(i + 1);
+                if (escaped == 's' && i + 2 < regex.length() && regex.charAt(i + 2) == '+') {
+                    appendWhitespace(prefix);
+                    i += 3;
+                    if (i < regex.length() && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+                        i++;
+                    }
+                } else if (!Character.isLetterOrDigit(escaped)) {
+                    appendLiteral(prefix, escaped);
+                    i += 2;
+                } else {
+                    break;
+                }
+            } else if (c == '*' || c == '?' || c == '{' || c == '+') {
+                // the preceding unit is optional or repeated: it cannot be part of the prefix
+                prefix.setLength(lastUnitStart);
+                break;
+            } else if (".[]()^$|".indexOf(c) >= 0) {
+                break;
+            } else {
+                appendLiteral(prefix, c);
+                i++;
+            }
+            lastUnitStart = unitStart;
+        }
+        return prefix.toString();
+    }
+
+    private static boolean hasTopLevelAlternation(String regex) {
+        int depth = 0;
+        boolean inClass = false;
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                inClass = c != ']';
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void appendLiteral(StringBuilder prefix, char c) {
+        if (isWhitespace(c)) {
+            appendWhitespace(prefix);
+        } else {
+            prefix.append(c);
+        }
+    }
+
+    private static void appendWhitespace(StringBuilder prefix) {
+        if (prefix.length() == 0 || prefix.charAt(prefix.length() - 1) != ' ') {
+            prefix.append(' ');
+        }
+    }
+
+    public static String normaliseWhitespace(String text) {
+        StringBuilder normalised = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            appendLiteral(normalised, text.charAt(i));
+        }
+        return normalised.toString();
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static class Index {
+        private final List<StepCandidate> candidates;
+        private final Keywords keywords;
+        private final Map<StepType, LiteralPrefixTrie> roots = new EnumMap<>(StepType.class);
+        private final BitSet unindexed = new BitSet();
+
+        private Index(List<StepCandidate> candidates) {
+            this.candidates = new ArrayList<>(candidates);
+            this.keywords = candidates.isEmpty() ? null : candidates.get(0).getKeywords();
+            for (int i = 0; i < candidates.size(); i++) {
+                StepCandidate candidate = candidates.get(i);
+                if (candidate.getKeywords() == keywords && candidate.getStepType() != null) {
+                    roots.computeIfAbsent(candidate.getStepType(), type -> new LiteralPrefixTrie())
+                            .add(literalPrefix(candidate), i);
+                } else {
+                    unindexed.set(i);
+                }
+            }
+        }
+
+        private List<StepCandidate> candidatesFor(String stepAsString, String previousNonAndStep) {
+            BitSet plausible = (BitSet) unindexed.clone();
+            if (keywords != null) {
+                if (keywords.isAndStep(stepAsString)) {
+                    if (previousNonAndStep != null) {
+                        try {
+                            collect(plausible, keywords.stepTypeFor(previousNonAndStep), stepAsString);
+                        } catch (StartingWordNotFound e) {
+                            // no candidate can match an AND step with an unknown previous step
+                        }
+                    }
+                } else {
+                    for (StepType stepType : roots.keySet()) {
+                        collect(plausible, stepType, stepAsString);
+                    }
+                }
+            }
+            List<StepCandidate> matching = new ArrayList<>(plausible.cardinality());
+            for (int i = plausible.nextSetBit(0); i >= 0; i = plausible.nextSetBit(i + 1)) {
+                matching.add(candidates.get(i));
+            }
+            return matching;
+        }
+
+        private void collect(BitSet plausible, StepType stepType, String stepAsString) {
+            LiteralPrefixTrie root = roots.get(stepType);
+            if (root == null) {
+                return;
+            }
+            try {
+                String stepWithoutStartingWord = keywords.stepWithoutStartingWord(stepAsString, stepType);
+                root.collect(normaliseWhitespace(stepWithoutStartingWord), plausible);
+            } catch (StartingWordNotFound e) {
+                // no candidate of this type can match the step
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.jbehave.core.steps;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jbehave.core.configuration.Configuration;
+
+/**
+ * An {@link InjectableStepsFactory} that loads the steps classes from the {@link #STEPS_INDEX} resources in the
+ * classpath, as generated at compile time by the {@link StepsIndexProcessor}, rather than scanning the classpath as
+ * the {@link ScanningStepsFactory} does. The constructors allow the specification of the package names of the
+ * indexed classes to load, or the root class from which the package name is derived, by default loading all the
+ * indexed classes. Additional regex filters on the class names are provided via the
+ * {@link #matchingNames(String)} and {@link #notMatchingNames(String)} methods, which by default match all names.
+ */
+public class IndexedStepsFactory extends AbstractStepsFactory {
+
+    public static final String STEPS_INDEX = "META-INF/jbehave/steps.index";
+
+    private final Set<Class<?>> types = new LinkedHashSet<>();
+    private String matchingRegex = ".*";
+    private String notMatchingRegex = "";
+
+    public IndexedStepsFactory(Configuration configuration, Class<?> root) {
+        this(configuration, root.getClassLoader(), root.getPackage().getName());
+    }
+
+    public IndexedStepsFactory(Configuration configuration, String... packageNames) {
+        this(configuration, Thread.currentThread().getContextClassLoader(), packageNames);
+    }
+
+    public IndexedStepsFactory(Configuration configuration, ClassLoader classLoader, String... packageNames) {
+        super(configuration);
+        for (String name : indexedNames(classLoader)) {
+            if (inPackages(name, packageNames)) {
+                types.add(loadType(name, classLoader));
+            }
+        }
+    }
+
+    public IndexedStepsFactory matchingNames(String matchingRegex) {
+        this.matchingRegex = matchingRegex;
+        return this;
+    }
+
+    public IndexedStepsFactory notMatchingNames(String notMatchingRegex) {
+        this.notMatchingRegex = notMatchingRegex;
+        return this;
+    }
+
+    private Set<String> indexedNames(ClassLoader classLoader) {
+        Set<String> names = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(STEPS_INDEX);
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String name = line.trim();
+                        if (!name.isEmpty() && !name.startsWith("#")) {
+                            names.add(name);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new StepsIndexNotLoaded(STEPS_INDEX, e);
+        }
+        return names;
+    }
+
+    private boolean inPackages(String name, String... packageNames) {
+        if (packageNames.length == 0) {
+            return true;
+        }
+        for (String packageName : packageNames) {
+            if (name.startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Class<?> loadType(String name, ClassLoader classLoader) {
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new StepsIndexNotLoaded(STEPS_INDEX, e);
+        }
+    }
+
+    @Override
+    protected List<Class<?>> stepsTypes() {
+        List<Class<?>> matchingTypes = new ArrayList<>();
+        for (Class<?> type : types) {
+            String name = type.getName();
+            if (name.matches(matchingRegex) && !name.matches(notMatchingRegex)) {
+                matchingTypes.add(type);
+            }
+        }
+        return matchingTypes;
+    }
+
+    @Override
+    public Object createInstanceOfType(Class<?> type) {
+        Object instance;
+        try {
+            instance = type.newInstance();
+        } catch (Exception e) {
+            throw new StepsInstanceNotFound(type, this);
+        }
+        return instance;
+    }
+
+    @SuppressWarnings("serial")
+    public static class StepsIndexNotLoaded extends RuntimeException {
+
+        public StepsIndexNotLoaded(String index, Throwable cause) {
+            super("Steps index " + index + " could not be loaded", cause);
+        }
+
+    }
+}
@@ -0,0 +1,39 @@
+package org.jbehave.core.steps;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trie of integer identifiers keyed on literal prefixes, typically the literal prefixes of step patterns as
+ * determined by {@link IndexedStepCandidates#literalPrefix(StepCandidate)}. Looking up a text collects the
+ * identifiers of all the prefixes which the text starts with.
+ */
+public class LiteralPrefixTrie {
+
+    private final Map<Character, LiteralPrefixTrie> children = new HashMap<>();
+    private final BitSet identifiers = new BitSet();
+
+    public void add(String prefix, int identifier) {
+        LiteralPrefixTrie node = this;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.children.computeIfAbsent(prefix.charAt(i), c -> new LiteralPrefixTrie());
+        }
+        node.identifiers.set(identifier);
+    }
+
+    /**
+     * Collects the identifiers of the prefixes which the given text starts with
+     *
+     * @param text the text to look up
+     * @param collected the BitSet to which the identifiers are added
+     */
+    public void collect(String text, BitSet collected) {
+        LiteralPrefixTrie node = this;
+        int i = 0;
+        while (node != null) {
+            collected.or(node.identifiers);
+            node = i < text.length() ? node.children.get(text.charAt(i++)) : null;
+        }
+    }
+}
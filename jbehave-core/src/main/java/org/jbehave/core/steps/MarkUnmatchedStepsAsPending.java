@@ -4,12 +4,14 @@ import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jbehave.core.annotations.AfterScenario.Outcome;
 import org.jbehave.core.annotations.Scope;
 import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
 import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.model.Lifecycle;
 import org.jbehave.core.model.Meta;
@@ -95,42 +97,21 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
         for (String stepAsString : stepsAsString) {
             // pending is default step, overridden below
             Step step = StepCreator.createPendingStep(stepAsString, previousNonAndStep);
-            List<StepCandidate> prioritisedCandidates = stepFinder.prioritise(stepAsString,
-                    new ArrayList<>(stepCandidates));
-            for (StepCandidate candidate : prioritisedCandidates) {
-                candidate.useStepMonitor(stepMonitor);
-                if (candidate.ignore(stepAsString)) {
-                    // ignorable steps are added so they can be reported
-                    step = StepCreator.createIgnorableStep(stepAsString);
-                    break;
-                }
-                if (candidate.comment(stepAsString)) {
-                    // comments are added so they can be reported
-                    step = StepCreator.createComment(stepAsString);
-                    break;
-                }
-                if (candidate.matches(stepAsString, previousNonAndStep)) {
-                    // step matches candidate
-                    if (candidate.isPending()) {
-                        ((PendingStep) step).annotatedOn(candidate.getMethod());
-                    } else {
-                        List<Step> composedSteps = new ArrayList<>();
-                        if (candidate.isComposite()) {
-                            candidate.addComposedSteps(composedSteps, stepAsString, namedParameters,
-                                    prioritisedCandidates, outcome);
-                        }
-                        if (outcome != null) {
-                            step = candidate.createMatchedStepUponOutcome(stepAsString, namedParameters, composedSteps,
-                                    outcome);
-                        } else {
-                            step = candidate.createMatchedStep(stepAsString, namedParameters, composedSteps);
-                        }
-                    }
-                    if (!(keywords.isAndStep(stepAsString) || keywords.isIgnorableStep(stepAsString))) {
-                        // only update previous step if not AND or IGNORABLE step
-                        previousNonAndStep = stepAsString;
-                    }
-                    break;
+            StepCandidate firstCandidate = stepCandidates.isEmpty() ? null : stepCandidates.get(0);
+            if (firstCandidate != null) {
+                firstCandidate.useStepMonitor(stepMonitor);
+            }
+            if (firstCandidate != null && firstCandidate.ignore(stepAsString)) {
+                // ignorable steps are added so they can be reported
+                step = StepCreator.createIgnorableStep(stepAsString);
+            } else if (firstCandidate != null && firstCandidate.comment(stepAsString)) {
+                // comments are added so they can be reported
+                step = StepCreator.createComment(stepAsString);
+            } else {
+                StepCandidate candidate = matchingCandidate(stepCandidates, stepAsString, previousNonAndStep,
+                        stepMonitor);
+                if (candidate != null) {
+                    step = matchedStep(candidate, step, stepAsString, namedParameters, stepCandidates, outcome);
                 }
             }
             if (!(keywords.isAndStep(stepAsString) || keywords.isIgnorableStep(stepAsString))) {
@@ -140,4 +121,82 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
         }
         return steps;
     }
+
+    private StepCandidate matchingCandidate(List<StepCandidate> stepCandidates, String stepAsString,
+            String previousNonAndStep, StepMonitor stepMonitor) {
+        StepResolutionCache resolutionCache = stepCandidates instanceof IndexedStepCandidates
+                ? ((IndexedStepCandidates) stepCandidates).getResolutionCache() : null;
+        if (resolutionCache == null || stepCandidates.isEmpty()) {
+            return findMatchingCandidate(stepCandidates, stepAsString, previousNonAndStep, stepMonitor);
+        }
+        StepType previousNonAndStepType = previousNonAndStepType(stepCandidates.get(0).getKeywords(),
+                stepAsString, previousNonAndStep);
+        Optional<StepCandidate> resolution = resolutionCache.get(stepAsString, previousNonAndStepType);
+        if (resolution != null) {
+            if (!resolution.isPresent()) {
+                return null;
+            }
+            StepCandidate candidate = resolution.get();
+            candidate.useStepMonitor(stepMonitor);
+            // matching the resolved candidate again lets the step monitor know of the match
+            if (candidate.matches(stepAsString, previousNonAndStep)) {
+                return candidate;
+            }
+        }
+        StepCandidate candidate = findMatchingCandidate(stepCandidates, stepAsString, previousNonAndStep,
+                stepMonitor);
+        resolutionCache.put(stepAsString, previousNonAndStepType, candidate);
+        return candidate;
+    }
+
+    private StepType previousNonAndStepType(Keywords keywords, String stepAsString, String previousNonAndStep) {
+        if (previousNonAndStep == null || !keywords.isAndStep(stepAsString)) {
+            return null;
+        }
+        try {
+            return keywords.stepTypeFor(previousNonAndStep);
+        } catch (StartingWordNotFound e) {
+            return null;
+        }
+    }
+
+    private StepCandidate findMatchingCandidate(List<StepCandidate> stepCandidates, String stepAsString,
+            String previousNonAndStep, StepMonitor stepMonitor) {
+        List<StepCandidate> prioritisedCandidates = stepFinder.prioritise(stepAsString,
+                plausibleCandidates(stepCandidates, stepAsString, previousNonAndStep));
+        for (StepCandidate candidate : prioritisedCandidates) {
+            candidate.useStepMonitor(stepMonitor);
+            if (candidate.matches(stepAsString, previousNonAndStep)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private Step matchedStep(StepCandidate candidate, Step pendingStep, String stepAsString,
+            Map<String, String> namedParameters, List<StepCandidate> stepCandidates, Outcome outcome) {
+        if (candidate.isPending()) {
+            ((PendingStep) pendingStep).annotatedOn(candidate.getMethod());
+            return pendingStep;
+        }
+        List<Step> composedSteps = new ArrayList<>();
+        if (candidate.isComposite()) {
+            // composed steps may match any of the candidates
+            List<StepCandidate> prioritisedCandidates = stepFinder.prioritise(stepAsString,
+                    new ArrayList<>(stepCandidates));
+            candidate.addComposedSteps(composedSteps, stepAsString, namedParameters, prioritisedCandidates, outcome);
+        }
+        if (outcome != null) {
+            return candidate.createMatchedStepUponOutcome(stepAsString, namedParameters, composedSteps, outcome);
+        }
+        return candidate.createMatchedStep(stepAsString, namedParameters, composedSteps);
+    }
+
+    private List<StepCandidate> plausibleCandidates(List<StepCandidate> stepCandidates, String stepAsString,
+            String previousNonAndStep) {
+        if (stepCandidates instanceof IndexedStepCandidates) {
+            return ((IndexedStepCandidates) stepCandidates).candidatesFor(stepAsString, previousNonAndStep);
+        }
+        return new ArrayList<>(stepCandidates);
+    }
 }
@@ -68,7 +68,19 @@ public class ParameterControls {
                 "Unable to replace \"" + delimitedName + "\" in text \"" + text + "\" with \"null\" value");
     }
 
+    /**
+     * Replaces the delimited names of the named parameters with their values. Unless a value is <code>null</code> or
+     * could itself form a delimited name, the text is scanned once for the delimited names, whatever the number of
+     * named parameters, rather than once per named parameter.
+     *
+     * @param text the text with delimited names
+     * @param namedParameters the values of the named parameters
+     * @return The text with the delimited names replaced
+     */
     public String replaceAllDelimitedNames(String text, Map<String, String> namedParameters) {
+        if (text != null && canReplaceInSinglePass(namedParameters)) {
+            return replaceAllDelimitedNamesInSinglePass(text, namedParameters);
+        }
         String textWithReplacedDelimitedNames = text;
         for (Entry<String, String> parameter : namedParameters.entrySet()) {
             textWithReplacedDelimitedNames = replaceAllDelimitedNames(textWithReplacedDelimitedNames,
@@ -77,6 +89,44 @@ public class ParameterControls {
         return textWithReplacedDelimitedNames;
     }
 
+    private boolean canReplaceInSinglePass(Map<String, String> namedParameters) {
+        if (nameDelimiterLeft.isEmpty() || nameDelimiterRight.isEmpty()) {
+            return false;
+        }
+        for (Entry<String, String> parameter : namedParameters.entrySet()) {
+            String value = parameter.getValue();
+            if (value == null || value.contains(nameDelimiterLeft) || parameter.getKey().contains(nameDelimiterRight)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String replaceAllDelimitedNamesInSinglePass(String text, Map<String, String> namedParameters) {
+        StringBuilder replaced = null;
+        int copied = 0;
+        int start = text.indexOf(nameDelimiterLeft);
+        while (start >= 0) {
+            int nameStart = start + nameDelimiterLeft.length();
+            int end = text.indexOf(nameDelimiterRight, nameStart);
+            if (end < 0) {
+                break;
+            }
+            String value = namedParameters.get(text.substring(nameStart, end));
+            if (value != null) {
+                if (replaced == null) {
+                    replaced = new StringBuilder(text.length());
+                }
+                replaced.append(text, copied, start).append(value);
+                copied = end + nameDelimiterRight.length();
+                start = text.indexOf(nameDelimiterLeft, copied);
+            } else {
+                start = text.indexOf(nameDelimiterLeft, start + 1);
+            }
+        }
+        return replaced != null ? replaced.append(text, copied, text.length()).toString() : text;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
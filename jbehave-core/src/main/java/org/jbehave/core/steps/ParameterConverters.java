@@ -47,6 +47,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
@@ -55,6 +56,7 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -117,6 +119,12 @@ public class ParameterConverters {
     private final List<ParameterConverter> converters;
     private final boolean threadSafe;
     private String escapedCollectionSeparator;
+    private volatile Map<ChainKey, Queue<ParameterConverter>> convertersChains = new ConcurrentHashMap<>();
+    private final AtomicLong chainHits = new AtomicLong();
+    private final AtomicLong chainMisses = new AtomicLong();
+    private volatile Map<Type, Optional<ParameterConverter>> baseConverters = new ConcurrentHashMap<>();
+    private final AtomicLong baseConverterHits = new AtomicLong();
+    private final AtomicLong baseConverterMisses = new AtomicLong();
 
 
     /**
@@ -342,9 +350,48 @@ public class ParameterConverters {
 
     public ParameterConverters addConverters(List<? extends ParameterConverter> converters) {
         this.converters.addAll(0, converters);
+        this.convertersChains = new ConcurrentHashMap<>();
+        this.baseConverters = new ConcurrentHashMap<>();
         return this;
     }
 
+    /**
+     * Returns the number of conversions whose converters chain was found in the cache
+     *
+     * @return The number of cache hits
+     */
+    public long chainHits() {
+        return chainHits.get();
+    }
+
+    /**
+     * Returns the number of conversions whose converters chain had to be resolved from the converters
+     *
+     * @return The number of cache misses
+     */
+    public long chainMisses() {
+        return chainMisses.get();
+    }
+
+    /**
+     * Returns the number of conversions whose base converter, converting the elements of arrays and tables from
+     * strings, was found in the cache
+     *
+     * @return The number of cache hits
+     */
+    public long baseConverterHits() {
+        return baseConverterHits.get();
+    }
+
+    /**
+     * Returns the number of conversions whose base converter had to be resolved from the converters
+     *
+     * @return The number of cache misses
+     */
+    public long baseConverterMisses() {
+        return baseConverterMisses.get();
+    }
+
     private static boolean isChainComplete(Queue<ParameterConverter> convertersChain,
             Predicate<Type> sourceTypePredicate) {
         return !convertersChain.isEmpty() && sourceTypePredicate.test(convertersChain.peek().getSourceType());
@@ -363,7 +410,7 @@ public class ParameterConverters {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Object convert(Object value, Class<?> source, Type type) {
         Predicate<Type> sourceTypePredicate = t -> source.isAssignableFrom((Class<?>) t);
-        Queue<ParameterConverter> converters = findConverters(type, sourceTypePredicate);
+        Queue<ParameterConverter> converters = cachedConverters(source, type, sourceTypePredicate);
         if (isChainComplete(converters, sourceTypePredicate)) {
             Object converted = applyConverters(value, type, converters);
             Queue<Class<?>> classes = converters.stream().map(ParameterConverter::getClass)
@@ -382,7 +429,8 @@ public class ParameterConverters {
             Collection collection = createCollection(rawClass(type));
 
             if (collection != null) {
-                Queue<ParameterConverter> typeConverters = findConverters(elementType, sourceTypePredicate);
+                Queue<ParameterConverter> typeConverters = cachedConverters(source, elementType,
+                        sourceTypePredicate);
 
                 if (!typeConverters.isEmpty()) {
                     Type sourceType = typeConverters.peek().getSourceType();
@@ -419,7 +467,24 @@ public class ParameterConverters {
         throw new ParameterConversionFailed("No parameter converter for " + type);
     }
 
+    /**
+     * Returns the first converter from strings to the given type, resolving it only once per type until converters
+     * are added.
+     */
     private ParameterConverter findBaseConverter(Type type) {
+        Map<Type, Optional<ParameterConverter>> cached = baseConverters;
+        Optional<ParameterConverter> converter = cached.get(type);
+        if (converter != null) {
+            baseConverterHits.incrementAndGet();
+        } else {
+            baseConverterMisses.incrementAndGet();
+            converter = Optional.ofNullable(resolveBaseConverter(type));
+            cached.putIfAbsent(type, converter);
+        }
+        return converter.orElse(null);
+    }
+
+    private ParameterConverter resolveBaseConverter(Type type) {
         for (ParameterConverter converter : converters) {
             if (converter.canConvertFrom(String.class) && converter.canConvertTo(type)) {
                 return converter;
@@ -428,6 +493,25 @@ public class ParameterConverters {
         return null;
     }
 
+    /**
+     * Returns the converters chain from the source to the target type, resolving it only once per pair of types until
+     * converters are added. The chains are shared between conversions and must not be modified.
+     */
+    private Queue<ParameterConverter> cachedConverters(Class<?> source, Type type,
+            Predicate<Type> sourceTypePredicate) {
+        Map<ChainKey, Queue<ParameterConverter>> chains = convertersChains;
+        ChainKey key = new ChainKey(source, type);
+        Queue<ParameterConverter> chain = chains.get(key);
+        if (chain != null) {
+            chainHits.incrementAndGet();
+            return chain;
+        }
+        chainMisses.incrementAndGet();
+        chain = findConverters(type, sourceTypePredicate);
+        Queue<ParameterConverter> previous = chains.putIfAbsent(key, chain);
+        return previous != null ? previous : chain;
+    }
+
     private Queue<ParameterConverter> findConverters(Type type, Predicate<Type> sourceTypePredicate) {
         LinkedList<ParameterConverter> convertersChain = new LinkedList<>();
         putConverters(type, convertersChain, sourceTypePredicate);
@@ -543,6 +627,33 @@ public class ParameterConverters {
         return new ParameterConverters(monitor, convertersForNewInstance, threadSafe);
     }
 
+    private static final class ChainKey {
+        private final Class<?> source;
+        private final Type target;
+
+        private ChainKey(Class<?> source, Type target) {
+            this.source = source;
+            this.target = target;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ChainKey)) {
+                return false;
+            }
+            ChainKey that = (ChainKey) o;
+            return source.equals(that.source) && target.equals(that.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, target);
+        }
+    }
+
     /**
      * A parameter converter for generic type of source input and target output.
      * The converters can be chained to allow for the target of one converter
@@ -11,17 +11,23 @@ import static org.jbehave.core.steps.AbstractStepResult.successful;
 import static org.jbehave.core.steps.ParameterConverters.ExamplesTableParametersConverter.isExamplesTableParameters;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -31,6 +37,7 @@ import java.util.stream.Stream;
 import com.thoughtworks.paranamer.NullParanamer;
 import com.thoughtworks.paranamer.Paranamer;
 
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jbehave.core.annotations.AfterScenario.Outcome;
@@ -77,6 +84,7 @@ public class StepCreator {
     private final StepMatcher stepMatcher;
     private final StepsContext stepsContext;
     private final boolean dryRun;
+    private final Map<Method, InvocationPlan> invocationPlans = new ConcurrentHashMap<>();
     private StepMonitor stepMonitor;
     private Paranamer paranamer = new NullParanamer();
 
@@ -103,6 +111,7 @@ public class StepCreator {
 
     public void useParanamer(Paranamer paranamer) {
         this.paranamer = paranamer;
+        this.invocationPlans.clear();
     }
 
     public Object stepsInstance() {
@@ -124,8 +133,9 @@ public class StepCreator {
         Matcher matcher = stepMatcher.matcher(stepWithoutStartingWord);
         if (matcher.find()) {
             // we've found a match, populate map
-            ParameterName[] parameterNames = parameterNames(method);
-            Type[] types = parameterTypes(method, parameterNames);
+            InvocationPlan invocationPlan = invocationPlan(method);
+            ParameterName[] parameterNames = invocationPlan.names;
+            Type[] types = invocationPlan.types;
 
             String[] values = parameterValuesForStep(matcher, namedParameters, types, parameterNames, false);
             for (int i = 0; i < parameterNames.length; i++) {
@@ -140,6 +150,19 @@ public class StepCreator {
         return matchedParameters; 
     }
 
+    /**
+     * Returns the {@link InvocationPlan} of the method, created once per method as long as the paranamer is unchanged.
+     *
+     * @param method the Method, which may be <code>null</code>
+     * @return The InvocationPlan
+     */
+    private InvocationPlan invocationPlan(Method method) {
+        if (method == null) {
+            return new InvocationPlan(null);
+        }
+        return invocationPlans.computeIfAbsent(method, InvocationPlan::new);
+    }
+
     /**
      * Returns the {@link ParameterName} representations for the method,
      * providing an abstraction that supports both annotated and non-annotated
@@ -320,12 +343,11 @@ public class StepCreator {
                     hasTable);
         }
         // mark parameter values that are named
+        Map<String, String> markedValues = new LinkedHashMap<>();
         for (Entry<String, String> namedParameter : namedParameters.entrySet()) {
-            parametrisedStep = parameterControls.replaceAllDelimitedNames(parametrisedStep, namedParameter.getKey(),
-                    markedValue(namedParameter.getValue()));
+            markedValues.put(namedParameter.getKey(), markedValue(namedParameter.getValue()));
         }
-
-        return parametrisedStep;
+        return parameterControls.replaceAllDelimitedNames(parametrisedStep, markedValues);
     }
 
     private boolean hasTable(Type[] types) {
@@ -892,7 +914,7 @@ public class StepCreator {
                 Object[] convertedParameters = parametriseStep();
                 stepMonitor.beforePerforming(parametrisedStep, dryRun, method);
                 if (!dryRun && method != null) {
-                    Object outputObject = method.invoke(stepsInstance(), convertedParameters);
+                    Object outputObject = invocationPlan(method).invoke(stepsInstance(), convertedParameters);
                     storeOutput(outputObject, method);
                 }
                 return successful(stepAsString).withParameterValues(parametrisedStep)
@@ -945,8 +967,9 @@ public class StepCreator {
         private Object[] parametriseStep() {
             Matcher matcher = stepMatcher.matcher(stepWithoutStartingWord);
             matcher.find();
-            ParameterName[] names = parameterNames(method);
-            Type[] types = parameterTypes(method, names);
+            InvocationPlan invocationPlan = invocationPlan(method);
+            ParameterName[] names = invocationPlan.names;
+            Type[] types = invocationPlan.types;
             String[] parameterValues = parameterValuesForStep(matcher, namedParameters, types, names, true);
             Object[] convertedParameters;
             if (method == null) {
@@ -1085,7 +1108,7 @@ public class StepCreator {
         }
 
         public Object invoke() throws InvocationTargetException, IllegalAccessException {
-            return method.invoke(stepsInstance(), parameterValuesFrom(meta));
+            return invocationPlan(method).invoke(stepsInstance(), parameterValuesFrom(meta));
         }
 
         private Parameter[] methodParameters() {
@@ -1144,6 +1167,76 @@ public class StepCreator {
         }
     }
 
+    /**
+     * The invocation plan of a step method: its parameter names and types, resolved once, and the method handle
+     * invoking it with the converted parameter values. The method is invoked by reflection if it is not accessible
+     * via a method handle, or if the method does not accept the instance or the parameter values, so that these are
+     * reported as {@link IllegalArgumentException}, rather than as failures of the method itself.
+     */
+    private class InvocationPlan {
+        private final Method method;
+        private final ParameterName[] names;
+        private final Type[] types;
+        private final Class<?>[] parameterClasses;
+        private final MethodHandle invoker;
+
+        private InvocationPlan(Method method) {
+            this.method = method;
+            this.names = parameterNames(method);
+            this.types = parameterTypes(method, names);
+            this.parameterClasses = method != null ? method.getParameterTypes() : null;
+            this.invoker = method != null ? invoker(method) : null;
+        }
+
+        private MethodHandle invoker(Method method) {
+            try {
+                MethodHandle handle = MethodHandles.lookup().unreflect(method);
+                if (Modifier.isStatic(method.getModifiers())) {
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+                int parameterCount = method.getParameterCount();
+                return handle.asType(MethodType.genericMethodType(parameterCount + 1))
+                        .asSpreader(Object[].class, parameterCount);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+
+        private Object invoke(Object instance, Object[] parameters)
+                throws InvocationTargetException, IllegalAccessException {
+            if (invoker == null || !accepts(instance, parameters)) {
+                return method.invoke(instance, parameters);
+            }
+            try {
+                return (Object) invoker.invokeExact(instance, parameters);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        private boolean accepts(Object instance, Object[] parameters) {
+            if (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(instance)) {
+                return false;
+            }
+            if (parameters == null || parameters.length != parameterClasses.length) {
+                return false;
+            }
+            for (int i = 0; i < parameters.length; i++) {
+                Class<?> parameterClass = parameterClasses[i];
+                Object parameter = parameters[i];
+                if (parameterClass.isPrimitive()) {
+                    // widening primitive conversions are left to reflection
+                    if (parameter == null || parameter.getClass() != ClassUtils.primitiveToWrapper(parameterClass)) {
+                        return false;
+                    }
+                } else if (parameter != null && !parameterClass.isInstance(parameter)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     private static class ParameterName {
         private String name;
         private boolean annotated;
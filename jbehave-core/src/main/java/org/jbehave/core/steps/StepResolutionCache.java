@@ -0,0 +1,102 @@
+package org.jbehave.core.steps;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, thread-safe cache of the {@link StepCandidate}s resolved for textual steps. As the resolution depends
+ * only on the step and, for AND steps, on the type of the previous non-AND step, the same step text is resolved once
+ * for all the scenarios, examples and stories sharing the same candidates. The least recently used resolutions are
+ * evicted once the maximum size is reached. The cache keeps count of its hits and misses.
+ */
+public class StepResolutionCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final Map<Key, Optional<StepCandidate>> resolutions;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public StepResolutionCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    @SuppressWarnings("serial")
+    public StepResolutionCache(final int maxSize) {
+        this.resolutions = Collections.synchronizedMap(new LinkedHashMap<Key, Optional<StepCandidate>>(16, 0.75f,
+                true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Optional<StepCandidate>> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Returns the cached resolution of a step
+     *
+     * @param stepAsString the textual step
+     * @param previousNonAndStepType the type of the previous non-AND step, if the step is an AND step
+     * @return The resolved candidate, empty if no candidate matched the step, or <code>null</code> if the step has
+     *         not been resolved yet
+     */
+    public Optional<StepCandidate> get(String stepAsString, StepType previousNonAndStepType) {
+        Optional<StepCandidate> resolution = resolutions.get(new Key(stepAsString, previousNonAndStepType));
+        (resolution != null ? hits : misses).incrementAndGet();
+        return resolution;
+    }
+
+    /**
+     * Caches the resolution of a step
+     *
+     * @param stepAsString the textual step
+     * @param previousNonAndStepType the type of the previous non-AND step, if the step is an AND step
+     * @param candidate the resolved candidate, or <code>null</code> if no candidate matched the step
+     */
+    public void put(String stepAsString, StepType previousNonAndStepType, StepCandidate candidate) {
+        resolutions.put(new Key(stepAsString, previousNonAndStepType), Optional.ofNullable(candidate));
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public int size() {
+        return resolutions.size();
+    }
+
+    private static final class Key {
+        private final String stepAsString;
+        private final StepType previousNonAndStepType;
+
+        private Key(String stepAsString, StepType previousNonAndStepType) {
+            this.stepAsString = stepAsString;
+            this.previousNonAndStepType = previousNonAndStepType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return stepAsString.equals(that.stepAsString) && previousNonAndStepType == that.previousNonAndStepType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(stepAsString, previousNonAndStepType);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.jbehave.core.steps;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * <p>
+ * An annotation processor which indexes, at compile time, the classes declaring any step method annotation
+ * ({@link org.jbehave.core.annotations.Given}, {@link org.jbehave.core.annotations.When},
+ * {@link org.jbehave.core.annotations.Then}, {@link org.jbehave.core.annotations.BeforeScenario}, etc ...). The
+ * names of the classes are written, one per line, to the {@link IndexedStepsFactory#STEPS_INDEX} resource, from
+ * which the {@link IndexedStepsFactory} loads the steps classes without scanning the classpath.
+ * </p>
+ * <p>
+ * The processor is not registered as a service, so it needs to be configured explicitly in the compilation of the
+ * steps classes, e.g. via the <code>-processor</code> option of javac or the <code>annotationProcessors</code> of the
+ * maven-compiler-plugin. So that incremental compilations, which only compile part of the sources, keep the steps
+ * classes not compiled, the index is merged with the existing one, whose classes are kept as long as they are not
+ * compiled again and can still be found.
+ * </p>
+ */
+public class StepsIndexProcessor extends AbstractProcessor {
+
+    private static final Set<String> STEP_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "org.jbehave.core.annotations.Given", "org.jbehave.core.annotations.When",
+            "org.jbehave.core.annotations.Then", "org.jbehave.core.annotations.BeforeScenario",
+            "org.jbehave.core.annotations.AfterScenario", "org.jbehave.core.annotations.BeforeStory",
+            "org.jbehave.core.annotations.AfterStory", "org.jbehave.core.annotations.BeforeStories",
+            "org.jbehave.core.annotations.AfterStories"));
+
+    private final Set<String> stepsTypes = new TreeSet<>();
+    private final Set<String> compiledTypes = new HashSet<>();
+
+    /**
+     * Supports all the annotation types, so that the processor is also invoked for the compilations of classes
+     * without step methods, which are removed from the existing index.
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            addCompiledTypes(element);
+        }
+        for (TypeElement annotation : annotations) {
+            if (!STEP_ANNOTATIONS.contains(annotation.getQualifiedName().toString())) {
+                continue;
+            }
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                Element type = element.getEnclosingElement();
+                if (element.getKind() == ElementKind.METHOD && type instanceof TypeElement) {
+                    stepsTypes.add(binaryName((TypeElement) type));
+                }
+            }
+        }
+        if (roundEnv.processingOver()) {
+            boolean indexed = keepIndexedTypes();
+            if (indexed || !stepsTypes.isEmpty()) {
+                writeIndex();
+            }
+        }
+        return false;
+    }
+
+    private void addCompiledTypes(Element element) {
+        if (element instanceof TypeElement) {
+            compiledTypes.add(binaryName((TypeElement) element));
+            for (Element enclosed : element.getEnclosedElements()) {
+                addCompiledTypes(enclosed);
+            }
+        }
+    }
+
+    /**
+     * Keeps the steps types of the existing index which are not compiled again and can still be found.
+     *
+     * @return Whether an index exists
+     */
+    private boolean keepIndexedTypes() {
+        List<String> indexedTypes;
+        try {
+            FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+                    IndexedStepsFactory.STEPS_INDEX);
+            try (BufferedReader reader = new BufferedReader(index.openReader(true))) {
+                indexedTypes = reader.lines().map(String::trim).filter(line -> !line.isEmpty())
+                        .collect(Collectors.toList());
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // no existing index
+            return false;
+        }
+        Elements elements = processingEnv.getElementUtils();
+        for (String indexedType : indexedTypes) {
+            if (!compiledTypes.contains(indexedType)
+                    && elements.getTypeElement(indexedType.replace('$', '.')) != null) {
+                stepsTypes.add(indexedType);
+            }
+        }
+        return true;
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    IndexedStepsFactory.STEPS_INDEX);
+            try (Writer writer = index.openWriter()) {
+                for (String stepsType : stepsTypes) {
+                    writer.write(stepsType);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write steps index " + IndexedStepsFactory.STEPS_INDEX + ": " + e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.jbehave.core.steps.context;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -9,45 +10,48 @@ import org.jbehave.core.annotations.ToContext;
 
 /**
  * Holds runtime context-related objects.
+ * <p>
+ * The objects are held per thread in a single thread-local, whose maps are cleared rather than re-allocated on reset,
+ * so that running each story in its own, possibly virtual, thread stays cheap.
+ * </p>
  */
 public class StepsContext {
 
     private static final String OBJECT_ALREADY_STORED_MESSAGE = "Object key '%s' has been already stored before.";
     private static final String OBJECT_NOT_STORED_MESSAGE = "Object key '%s' has not been stored";
 
-    private static final ThreadLocal<Map<String, Object>> exampleObjects = new ThreadLocal<>();
-    private static final ThreadLocal<Map<String, Object>> scenarioObjects = new ThreadLocal<>();
-    private static final ThreadLocal<Map<String, Object>> storyObjects = new ThreadLocal<>();
-    private static final ThreadLocal<Set<String>> keysStored = new ThreadLocal<>();
+    private static final ThreadLocal<ContextObjects> objects = ThreadLocal.withInitial(ContextObjects::new);
 
     public void put(String key, Object object, ToContext.RetentionLevel retentionLevel) {
-        checkForDuplicate(key);
-        Map<String, Object> objects;
+        ContextObjects current = objects.get();
+        Map<String, Object> retained;
         if (ToContext.RetentionLevel.EXAMPLE.equals(retentionLevel)) {
-            objects = getExampleObjects();
-        } else if (ToContext.RetentionLevel.SCENARIO.equals(retentionLevel)) {
-            objects = getScenarioObjects();
+            checkForDuplicate(current.example.containsKey(key) || current.keys.contains(key), key);
+            retained = current.example;
         } else {
-            objects = getStoryObjects();
+            checkForDuplicate(current.example.containsKey(key) || !current.keys.add(key), key);
+            if (ToContext.RetentionLevel.SCENARIO.equals(retentionLevel)) {
+                retained = current.scenario;
+            } else {
+                retained = current.story;
+            }
         }
-        objects.put(key, object);
+        retained.put(key, object);
     }
 
-    private void checkForDuplicate(String key) {
-        Set<String> keys = keysStored.get();
-        if (keys.contains(key)) {
+    private void checkForDuplicate(boolean stored, String key) {
+        if (stored) {
             throw new ObjectAlreadyStoredException(String.format(OBJECT_ALREADY_STORED_MESSAGE, key));
-        } else {
-            keys.add(key);
         }
     }
 
     public Object get(String key) {
-        Object object = getExampleObjects().get(key);
+        ContextObjects current = objects.get();
+        Object object = current.example.get(key);
         if (object == null) {
-            object = getScenarioObjects().get(key);
+            object = current.scenario.get(key);
             if (object == null) {
-                object = getStoryObjects().get(key);
+                object = current.story.get(key);
             }
         }
 
@@ -58,57 +62,79 @@ public class StepsContext {
         return object;
     }
 
-    private Map<String, Object> getExampleObjects() {
-        Map<String, Object> objects = exampleObjects.get();
-        if (objects == null) {
-            objects = new HashMap<>();
-            exampleObjects.set(objects);
-        }
-        return objects;
+    public void resetExample() {
+        objects.get().example.clear();
     }
 
-    private Map<String, Object> getScenarioObjects() {
-        Map<String, Object> objects = scenarioObjects.get();
-        if (objects == null) {
-            objects = new HashMap<>();
-            scenarioObjects.set(objects);
-        }
-        return objects;
+    public void resetScenario() {
+        ContextObjects current = objects.get();
+        current.keys.removeAll(current.scenario.keySet());
+        current.scenario.clear();
     }
 
-    private Map<String, Object> getStoryObjects() {
-        Map<String, Object> objects = storyObjects.get();
-        if (objects == null) {
-            objects = new HashMap<>();
-            storyObjects.set(objects);
-        }
-        return objects;
+    public void resetStory() {
+        ContextObjects current = objects.get();
+        current.story.clear();
+        current.keys.clear();
     }
 
-    private Set<String> getKeys() {
-        Set<String> keys = keysStored.get();
-        if (keys == null) {
-            keys = new HashSet<>();
-            keysStored.set(keys);
-        }
-        return keys;
+    /**
+     * Shares the scenario and story objects of the current thread with the examples performed concurrently, possibly
+     * in other threads.
+     *
+     * @return The ConcurrentExamples sharing the objects
+     */
+    public ConcurrentExamples concurrentExamples() {
+        return new ConcurrentExamples(objects.get());
     }
 
-    public void resetExample() {
-        Set<String> keys = getKeys();
-        keys.removeAll(getExampleObjects().keySet());
-        exampleObjects.set(new HashMap<String, Object>());
-    }
+    /**
+     * Performs examples with their own example objects, sharing the scenario and story objects of the thread which
+     * created them. The keys of the example objects are checked for duplicates within the example, while the keys of
+     * the scenario and story objects are checked against the keys shared by all the examples, so that storing the same
+     * scenario or story object from two examples fails as it does when the examples are performed one after the other.
+     */
+    public static class ConcurrentExamples {
+
+        private final Map<String, Object> scenario;
+        private final Map<String, Object> story;
+        private final Set<String> keys;
+
+        private ConcurrentExamples(ContextObjects shared) {
+            this.scenario = Collections.synchronizedMap(shared.scenario);
+            this.story = Collections.synchronizedMap(shared.story);
+            this.keys = Collections.synchronizedSet(shared.keys);
+        }
 
-    public void resetScenario() {
-        Set<String> keys = getKeys();
-        keys.removeAll(getScenarioObjects().keySet());
-        scenarioObjects.set(new HashMap<String, Object>());
+        public void perform(Runnable example) {
+            ContextObjects previous = objects.get();
+            objects.set(new ContextObjects(new HashMap<>(), scenario, story, keys));
+            try {
+                example.run();
+            } finally {
+                objects.set(previous);
+            }
+        }
     }
 
-    public void resetStory() {
-        storyObjects.set(new HashMap<String, Object>());
-        keysStored.set(new HashSet<String>());
+    private static class ContextObjects {
+        private final Map<String, Object> example;
+        private final Map<String, Object> scenario;
+        private final Map<String, Object> story;
+        // the keys of the scenario and story objects
+        private final Set<String> keys;
+
+        ContextObjects() {
+            this(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashSet<>());
+        }
+
+        ContextObjects(Map<String, Object> example, Map<String, Object> scenario, Map<String, Object> story,
+                Set<String> keys) {
+            this.example = example;
+            this.scenario = scenario;
+            this.story = story;
+            this.keys = keys;
+        }
     }
 
     @SuppressWarnings("serial")
@@ -128,6 +128,7 @@ ${keywords.outcome} ${outcome}
 </#if>
 </#macro>
 <#macro renderStepOutcome outcome><#if outcome=="pending"><span class="keyword ${outcome}">(${keywords.pending})</span></#if><#if outcome=="failed"><span class="keyword ${outcome}">(${keywords.failed})</span></#if><#if outcome=="notPerformed"><span class="keyword ${outcome}">(${keywords.notPerformed})</span></#if></#macro>
+<#macro renderStoryStart>
 
 <html>
 <body>
@@ -144,8 +145,8 @@ ${keywords.outcome} ${outcome}
 </#list>
 </div> <!-- before -->
 </#if>
-<#assign scenarios = story.getScenarios()>
-<#list scenarios as scenario>
+</#macro>
+<#macro renderScenarioStart scenario>
 <div class="scenario"><h2>${keywords.scenario} <@renderMultiline scenario.getTitle()/></h2>
 <#if scenario.getMeta()??><@renderMeta scenario.getMeta()/></#if>
 <#if scenario.getGivenStories()??><@renderGivenStories scenario.getGivenStories()/></#if>
@@ -156,23 +157,26 @@ ${keywords.outcome} ${outcome}
 </#list>
 <@renderTable scenario.getExamplesTable()/>
 </div>  <!-- end examples -->
-<#if scenario.getExamples()??>
-<#list scenario.getExamples() as example>
+</#if>
+</#macro>
+<#macro renderExample scenario example hasNext>
 <h3 class="example">${keywords.examplesTableRow} ${example?html}</h3>
 <#assign steps = scenario.getStepsByExample(example)>
 <#list steps as step>
 <@renderStep step/>
 </#list>
-</#list>
-</#if>
-<#else> <!-- normal scenario steps -->
+</#macro>
+<#macro renderScenarioSteps scenario>
+ <!-- normal scenario steps -->
 <#assign steps = scenario.getSteps()>
 <#list steps as step>
 <@renderStep step/>
 </#list>
-</#if>
+</#macro>
+<#macro renderScenarioEnd hasNext>
 </div> <!-- end scenario -->
-</#list>
+</#macro>
+<#macro renderStoryEnd>
 <#if !story.getAfterSteps().isEmpty()>
 <div class="after">
 <h3>${keywords.after}</h3>
@@ -193,3 +197,5 @@ ${keywords.outcome} ${outcome}
 </body>
 </html>
 
+</#macro>
+<#include "jbehave-output-fragments.ftl">
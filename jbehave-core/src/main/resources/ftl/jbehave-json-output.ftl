@@ -116,6 +116,7 @@
 <#macro renderStep step><#assign formattedStep = step.getFormattedStep(EscapeMode.JSON, "(({0}))")>
 {"outcome": "${step.outcome}", "step": "${formattedStep}"<#if step.getTable()??>, "parameter": <@renderTable step.getTable()/></#if><#if step.getVerbatim()??>, "parameter": <@renderVerbatim step.getVerbatim()/></#if><#if step.getFailure()??>, "failure": "${step.failureCause?json_string}"</#if><#if step.getPendingMethod()??>, "pendingMethod": "${step.pendingMethod?json_string}"</#if><#if step.getOutcomes()??>,<@renderOutcomes step.getOutcomes()/></#if>}
 </#macro>
+<#macro renderStoryStart>
 {
 "path": "${story.path}",
 "title": "${story.description?json_string}"
@@ -129,9 +130,9 @@
 </#list>
 ]}
 </#if>
-<#assign scenarios = story.getScenarios()>
 ,"scenarios": [
-<#list scenarios as scenario>
+</#macro>
+<#macro renderScenarioStart scenario>
 {"keyword": "${keywords.scenario}", "title": "${scenario.title?json_string}"
 <#if scenario.getMeta()??>, <@renderMeta scenario.getMeta()/></#if>
 <#if scenario.getGivenStories()??>, <@renderGivenStories scenario.getGivenStories()/></#if>
@@ -140,8 +141,10 @@
 "step": "${step?json_string}"<#if step_has_next>,</#if>
 </#list>, "parameters": <@renderTable scenario.getExamplesTable()/>
 }
-<#if scenario.getExamples()??>, "examples": [
-<#list scenario.getExamples() as example>
+, "examples": [
+</#if>
+</#macro>
+<#macro renderExample scenario example hasNext>
 {"keyword": "${keywords.examplesTableRow}", "value": "${example?json_string}"
 <#assign steps = scenario.getStepsByExample(example)>
 ,"steps": [
@@ -149,19 +152,19 @@
 <@renderStep step/><#if step_has_next>,</#if>
 </#list>
 ]
-}<#if example_has_next>,</#if>
-</#list>
-]
-</#if>
-<#else>
+}<#if hasNext>,</#if>
+</#macro>
+<#macro renderScenarioSteps scenario>
 <#assign steps = scenario.getSteps()>,"steps": [
 <#list steps as step>
 <@renderStep step/><#if step_has_next>,</#if>
 </#list>
+</#macro>
+<#macro renderScenarioEnd hasNext>
 ]
-</#if>
-}<#if scenario_has_next>,</#if>
-</#list>
+}<#if hasNext>,</#if>
+</#macro>
+<#macro renderStoryEnd>
 ]
 <#if !story.getAfterSteps().isEmpty()>
 ,"after": {"keyword": "${keywords.after}", "steps": [
@@ -175,3 +178,5 @@
 ,"cancelled": {"keyword": "${keywords.storyCancelled}", "durationKeyword": "${keywords.duration}", "durationInSecs": "${story.storyDuration.durationInSecs}"}
 </#if>
 }
+</#macro>
+<#include "jbehave-output-fragments.ftl">
@@ -0,0 +1,31 @@
+<#ftl strip_whitespace=true>
+<#-- Renders the whole story or, if the output is streamed, only the requested fragment of the story -->
+<#if fragment??>
+<#if fragment == 'storyStart'>
+<@renderStoryStart/>
+<#elseif fragment == 'scenarioStart'>
+<@renderScenarioStart scenario/>
+<#elseif fragment == 'example'>
+<@renderExample scenario example hasNext/>
+<#elseif fragment == 'scenarioSteps'>
+<@renderScenarioSteps scenario/>
+<#elseif fragment == 'scenarioEnd'>
+<@renderScenarioEnd hasNext/>
+<#elseif fragment == 'storyEnd'>
+<@renderStoryEnd/>
+</#if>
+<#else>
+<@renderStoryStart/>
+<#list story.getScenarios() as scenario>
+<@renderScenarioStart scenario/>
+<#if scenario.getExamplesTable()??>
+<#list scenario.getExamples() as example>
+<@renderExample scenario example example?has_next/>
+</#list>
+<#else>
+<@renderScenarioSteps scenario/>
+</#if>
+<@renderScenarioEnd scenario?has_next/>
+</#list>
+<@renderStoryEnd/>
+</#if>
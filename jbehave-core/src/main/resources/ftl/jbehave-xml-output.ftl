@@ -117,6 +117,7 @@
 ${formattedStep}<#if step.getTable()??> <parameter><@renderTable step.getTable()/></parameter></#if><#if step.getVerbatim()??> <parameter><@renderVerbatim step.getVerbatim()/></parameter></#if>
 <#if step.getFailure()??> <failure>${step.failureCause?xml}</failure></#if><#if step.getPendingMethod()??> <pendingMethod>${step.pendingMethod?xml}</pendingMethod></#if><#if step.getOutcomes()??><@renderOutcomes step.getOutcomes()/></#if></step>
 </#macro>
+<#macro renderStoryStart>
 
 <story path="${story.path}" title="${story.description?xml}">
 <#if story.getMeta()??><@renderMeta story.getMeta()/></#if>
@@ -129,8 +130,8 @@ ${formattedStep}<#if step.getTable()??> <parameter><@renderTable step.getTable()
 </#list>
 </before>
 </#if>
-<#assign scenarios = story.getScenarios()>
-<#list scenarios as scenario>
+</#macro>
+<#macro renderScenarioStart scenario>
 <scenario keyword="${keywords.scenario}" title="${scenario.title?xml}">
 <#if scenario.getMeta()??><@renderMeta scenario.getMeta()/></#if>
 <#if scenario.getGivenStories()??><@renderGivenStories scenario.getGivenStories()/></#if>
@@ -141,23 +142,25 @@ ${formattedStep}<#if step.getTable()??> <parameter><@renderTable step.getTable()
 </#list>
 <@renderTable scenario.getExamplesTable()/>
 </examples>
-<#if scenario.getExamples()??>
-<#list scenario.getExamples() as example>
+</#if>
+</#macro>
+<#macro renderExample scenario example hasNext>
 <example keyword="${keywords.examplesTableRow}">${example?xml}</example>
 <#assign steps = scenario.getStepsByExample(example)>
 <#list steps as step>
 <@renderStep step/>
 </#list>
-</#list>
-</#if>
-<#else> 
+</#macro>
+<#macro renderScenarioSteps scenario>
 <#assign steps = scenario.getSteps()>
 <#list steps as step>
 <@renderStep step/>
 </#list>
-</#if>
+</#macro>
+<#macro renderScenarioEnd hasNext>
 </scenario>
-</#list>
+</#macro>
+<#macro renderStoryEnd>
 <#if !story.getAfterSteps().isEmpty()>
 <after keyword="${keywords.after}">
 <#list story.getAfterSteps() as step>
@@ -175,3 +178,5 @@ ${formattedStep}<#if step.getTable()??> <parameter><@renderTable step.getTable()
 </#if>
 </story>
 
+</#macro>
+<#include "jbehave-output-fragments.ftl">
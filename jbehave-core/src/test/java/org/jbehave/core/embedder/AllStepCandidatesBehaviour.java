@@ -5,6 +5,8 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -16,6 +18,7 @@ import org.jbehave.core.annotations.Alias;
 import org.jbehave.core.annotations.Conditional;
 import org.jbehave.core.annotations.Given;
 import org.jbehave.core.condition.ReflectionBasedStepConditionMatcher;
+import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
 import org.jbehave.core.steps.CandidateSteps;
 import org.jbehave.core.steps.CompositeCandidateSteps;
@@ -118,6 +121,40 @@ class AllStepCandidatesBehaviour {
         assertStepCandidate(steps.get(1), StepCandidate.class, StepType.GIVEN, "Alias step");
     }
 
+    @Test
+    void shouldDetectDuplicatesAmongManyCandidates() {
+        List<StepCandidate> distinct = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            distinct.add(candidateWith("step number " + i + " with $param", StepType.GIVEN));
+            distinct.add(candidateWith("step number " + i + " with $param", StepType.WHEN));
+        }
+        distinct.add(candidateWith("$anything is done", StepType.GIVEN));
+        assertThat(new AllStepCandidates(matcher, candidatesOf(distinct)).getRegularSteps(), hasSize(10001));
+
+        List<StepCandidate> withDuplicate = new ArrayList<>(distinct);
+        withDuplicate.add(candidateWith("step number 4242 with  $other", StepType.WHEN));
+        assertThrows(DuplicateCandidateFound.class,
+                () -> new AllStepCandidates(matcher, candidatesOf(withDuplicate)));
+
+        List<StepCandidate> withWildcardDuplicate = new ArrayList<>(distinct);
+        withWildcardDuplicate.add(candidateWith("$whatever is done", StepType.GIVEN));
+        assertThrows(DuplicateCandidateFound.class,
+                () -> new AllStepCandidates(matcher, candidatesOf(withWildcardDuplicate)));
+    }
+
+    private static List<CandidateSteps> candidatesOf(List<StepCandidate> stepCandidates) {
+        CandidateSteps candidateSteps = mock(CandidateSteps.class);
+        when(candidateSteps.listCandidates()).thenReturn(stepCandidates);
+        return Collections.singletonList(candidateSteps);
+    }
+
+    private static StepCandidate candidateWith(String patternAsString, StepType stepType) {
+        Configuration configuration = new MostUsefulConfiguration();
+        return new StepCandidate(patternAsString, 0, stepType, null, Object.class, null, configuration.keywords(),
+                configuration.stepPatternParser().parseStep(stepType, patternAsString), "$", null, null,
+                configuration.stepMonitor());
+    }
+
     private static void assertStepCandidate(StepCandidate candidate, java.lang.Class<?> clazz, StepType type,
             String name) {
         assertThat(candidate, instanceOf(clazz));
@@ -27,12 +27,15 @@ import java.io.File;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import org.jbehave.core.Embeddable;
@@ -410,6 +413,91 @@ class EmbedderBehaviour {
         assertThat(out.toString(), not(containsString("Generating stories view")));
     }
 
+    @Test
+    void shouldRunStoriesAsEmbeddablesConcurrentlyUsingAnEmbedderForEach() {
+        // Given
+        PerformableTree performableTree = mock(PerformableTree.class);
+        EmbedderControls embedderControls = new EmbedderControls().useEmbeddablesThreads(2);
+        OutputStream out = new ByteArrayOutputStream();
+        EmbedderMonitor monitor = new PrintStreamEmbedderMonitor(new PrintStream(out));
+        String myEmbeddableName = MyEmbeddable.class.getName();
+        String myOtherEmbeddableName = MyOtherEmbeddable.class.getName();
+        List<String> classNames = asList(myEmbeddableName, myOtherEmbeddableName);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        MyConcurrentEmbeddable myEmbeddable = new MyConcurrentEmbeddable(barrier);
+        MyConcurrentEmbeddable myOtherEmbeddable = new MyConcurrentEmbeddable(barrier);
+        EmbedderClassLoader classLoader = mock(EmbedderClassLoader.class);
+        when(classLoader.newInstance(Embeddable.class, myEmbeddableName)).thenReturn(myEmbeddable);
+        when(classLoader.newInstance(Embeddable.class, myOtherEmbeddableName)).thenReturn(myOtherEmbeddable);
+
+        // When
+        Embedder embedder = embedderWith(performableTree, embedderControls, monitor);
+        embedder.useClassLoader(classLoader);
+        embedder.runAsEmbeddables(classNames);
+
+        // Then
+        assertThat(myEmbeddable.run, is(true));
+        assertThat(myOtherEmbeddable.run, is(true));
+        assertThat(myEmbeddable.embedder, not(sameInstance(embedder)));
+        assertThat(myEmbeddable.embedder, not(sameInstance(myOtherEmbeddable.embedder)));
+        assertThat(myEmbeddable.embedder.executorService(), sameInstance(myOtherEmbeddable.embedder.executorService()));
+        assertThat(myEmbeddable.embedder.embedderControls().generateViewAfterStories(), is(false));
+        assertThat(myEmbeddable.embedder.embedderControls().embeddablesThreads(), equalTo(2));
+        assertThat(embedder.hasExecutorService(), is(false));
+        assertThatReportsViewGenerated(out);
+    }
+
+    @Test
+    void shouldRunFailingStoriesAsEmbeddablesConcurrentlyInBatchIfBatchFlagIsSet() {
+        // Given
+        PerformableTree performableTree = mock(PerformableTree.class);
+        EmbedderControls embedderControls = new EmbedderControls().doBatch(true).doIgnoreFailureInStories(true)
+                .doIgnoreFailureInView(true).useEmbeddablesThreads(2);
+        OutputStream out = new ByteArrayOutputStream();
+        EmbedderMonitor monitor = new PrintStreamEmbedderMonitor(new PrintStream(out));
+        String myStoryName = MyFailingEmbeddable.class.getName();
+        String myOtherStoryName = MyOtherEmbeddable.class.getName();
+        List<String> classNames = asList(myStoryName, myOtherStoryName);
+        EmbedderClassLoader classLoader = mock(EmbedderClassLoader.class);
+        when(classLoader.newInstance(Embeddable.class, myStoryName)).thenReturn(new MyFailingEmbeddable());
+        when(classLoader.newInstance(Embeddable.class, myOtherStoryName)).thenReturn(new MyOtherEmbeddable());
+
+        // When
+        Embedder embedder = embedderWith(performableTree, embedderControls, monitor);
+        embedder.useClassLoader(classLoader);
+        embedder.runAsEmbeddables(classNames);
+
+        // Then
+        assertThat(out.toString(), containsString("Running embeddable " + myStoryName));
+        assertThat(out.toString(), containsString("Running embeddable " + myOtherStoryName));
+        assertThat(out.toString(), containsString("Failed to run batch"));
+    }
+
+    @Test
+    void shouldGenerateReportsViewBeforeRethrowingFailureOfEmbeddablesRunConcurrently() {
+        // Given
+        PerformableTree performableTree = mock(PerformableTree.class);
+        EmbedderControls embedderControls = new EmbedderControls().useEmbeddablesThreads(2);
+        OutputStream out = new ByteArrayOutputStream();
+        EmbedderMonitor monitor = new PrintStreamEmbedderMonitor(new PrintStream(out));
+        String myStoryName = MyFailingEmbeddable.class.getName();
+        String myOtherStoryName = MyOtherEmbeddable.class.getName();
+        List<String> classNames = asList(myStoryName, myOtherStoryName);
+        EmbedderClassLoader classLoader = mock(EmbedderClassLoader.class);
+        when(classLoader.newInstance(Embeddable.class, myStoryName)).thenReturn(new MyFailingEmbeddable());
+        when(classLoader.newInstance(Embeddable.class, myOtherStoryName)).thenReturn(new MyOtherEmbeddable());
+
+        // When
+        Embedder embedder = embedderWith(performableTree, embedderControls, monitor);
+        embedder.useClassLoader(classLoader);
+        assertThrows(RunningEmbeddablesFailed.class, () -> embedder.runAsEmbeddables(classNames));
+
+        // Then
+        assertThat(out.toString(), containsString("Running embeddable " + myStoryName));
+        assertThatReportsViewGenerated(out);
+        assertThat(embedder.hasExecutorService(), is(false));
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     void shouldRunStoriesAsPaths() {
@@ -512,6 +600,48 @@ class EmbedderBehaviour {
         assertThat(embedder.storyManager, nullValue());
     }
 
+    @Test
+    void shouldReuseExecutorServiceAcrossRunsUntilShutdown() {
+        // Given
+        PerformableTree performableTree = mock(PerformableTree.class);
+        EmbedderControls embedderControls = new EmbedderControls().doGenerateViewAfterStories(false)
+                .doReuseExecutorService(true);
+        EmbedderMonitor monitor = new NullEmbedderMonitor();
+        Embedder embedder = embedderWith(performableTree, embedderControls, monitor);
+        Configuration configuration = embedder.configuration();
+        mockRunContext(performableTree, monitor, configuration, embedder.stepsFactory(), embedder.metaFilter());
+
+        // When
+        embedder.runStoriesAsPaths(Collections.<String>emptyList());
+        ExecutorService executorService = embedder.executorService();
+        embedder.runStoriesAsPaths(Collections.<String>emptyList());
+
+        // Then
+        assertThat(embedder.executorService(), sameInstance(executorService));
+        assertThat(executorService.isShutdown(), is(false));
+        embedder.shutdown();
+        assertThat(executorService.isShutdown(), is(true));
+        assertThat(embedder.hasExecutorService(), is(false));
+    }
+
+    @Test
+    void shouldRunReusedExecutorServiceInDaemonThreads() throws Exception {
+        // Given
+        EmbedderControls embedderControls = new EmbedderControls().doReuseExecutorService(true);
+        Embedder embedder = embedderWith(mock(PerformableTree.class), embedderControls,
+                new NullEmbedderMonitor());
+
+        // When
+        ExecutorService executorService = embedder.executorService();
+
+        // Then
+        try {
+            assertThat(executorService.submit(() -> Thread.currentThread().isDaemon()).get(), is(true));
+        } finally {
+            embedder.shutdown();
+        }
+    }
+
     @Test
     void shouldProcessSystemProperties() {
 
@@ -1185,6 +1315,33 @@ class EmbedderBehaviour {
         }
     }
 
+    private static class MyConcurrentEmbeddable implements Embeddable {
+
+        private final CyclicBarrier barrier;
+        private Embedder embedder;
+        private boolean run;
+
+        MyConcurrentEmbeddable(CyclicBarrier barrier) {
+            this.barrier = barrier;
+        }
+
+        @Override
+        public void useEmbedder(Embedder embedder) {
+            this.embedder = embedder;
+        }
+
+        @Override
+        public void run() {
+            try {
+                // completes only if both embeddables are run concurrently
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            run = true;
+        }
+    }
+
     private abstract static class MyAbstractEmbeddable implements Embeddable {
     }
 
@@ -29,6 +29,11 @@ class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeouts(), equalTo(defaultControls.storyTimeouts()));
         assertThat(embedderControls.failOnStoryTimeout(), is(defaultControls.failOnStoryTimeout()));
         assertThat(embedderControls.threads(), equalTo(defaultControls.threads()));
+        assertThat(embedderControls.scheduleByDuration(), is(defaultControls.scheduleByDuration()));
+        assertThat(embedderControls.loadStoriesInParallel(), is(defaultControls.loadStoriesInParallel()));
+        assertThat(embedderControls.reuseExecutorService(), is(defaultControls.reuseExecutorService()));
+        assertThat(embedderControls.embeddablesThreads(), equalTo(defaultControls.embeddablesThreads()));
+        assertThat(embedderControls.parsedStoriesCacheSize(), equalTo(defaultControls.parsedStoriesCacheSize()));
 
         System.setProperty(PropertyBasedEmbedderControls.BATCH, "true");
         System.setProperty(PropertyBasedEmbedderControls.GENERATE_VIEW_AFTER_STORIES, "true");
@@ -42,6 +47,11 @@ class EmbedderControlsBehaviour {
                 "**/shorts/*.story:3,**/longs/*.story:20");
         System.setProperty(PropertyBasedEmbedderControls.FAIL_ON_STORY_TIMEOUT, "true");
         System.setProperty(PropertyBasedEmbedderControls.THREADS, "5");
+        System.setProperty(PropertyBasedEmbedderControls.SCHEDULE_BY_DURATION, "true");
+        System.setProperty(PropertyBasedEmbedderControls.LOAD_STORIES_IN_PARALLEL, "true");
+        System.setProperty(PropertyBasedEmbedderControls.REUSE_EXECUTOR_SERVICE, "true");
+        System.setProperty(PropertyBasedEmbedderControls.EMBEDDABLES_THREADS, "3");
+        System.setProperty(PropertyBasedEmbedderControls.PARSED_STORIES_CACHE_SIZE, "100");
 
         assertThat(embedderControls.batch(), is(true));
         assertThat(embedderControls.generateViewAfterStories(), is(true));
@@ -53,6 +63,11 @@ class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeouts(), equalTo("300"));
         assertThat(embedderControls.failOnStoryTimeout(), is(true));
         assertThat(embedderControls.threads(), equalTo(5));
+        assertThat(embedderControls.scheduleByDuration(), is(true));
+        assertThat(embedderControls.loadStoriesInParallel(), is(true));
+        assertThat(embedderControls.reuseExecutorService(), is(true));
+        assertThat(embedderControls.embeddablesThreads(), equalTo(3));
+        assertThat(embedderControls.parsedStoriesCacheSize(), equalTo(100));
     }
     
     @Test
@@ -69,6 +84,11 @@ class EmbedderControlsBehaviour {
         assertThat(embedderControls.skip(), equalTo(delegate.skip()));
         assertThat(embedderControls.storyTimeouts(), equalTo(delegate.storyTimeouts()));
         assertThat(embedderControls.threads(), equalTo(delegate.threads()));
+        assertThat(embedderControls.scheduleByDuration(), is(delegate.scheduleByDuration()));
+        assertThat(embedderControls.loadStoriesInParallel(), is(delegate.loadStoriesInParallel()));
+        assertThat(embedderControls.reuseExecutorService(), is(delegate.reuseExecutorService()));
+        assertThat(embedderControls.embeddablesThreads(), equalTo(delegate.embeddablesThreads()));
+        assertThat(embedderControls.parsedStoriesCacheSize(), equalTo(delegate.parsedStoriesCacheSize()));
         assertThatNotAllowed(embedderControls, "doBatch", boolean.class, true);
         assertThatNotAllowed(embedderControls, "doGenerateViewAfterStories", boolean.class, true);
         assertThatNotAllowed(embedderControls, "doIgnoreFailureInStories", boolean.class, true);
@@ -79,6 +99,11 @@ class EmbedderControlsBehaviour {
         assertThatNotAllowed(embedderControls, "useStoryTimeouts", String.class, "300");
         assertThatNotAllowed(embedderControls, "doFailOnStoryTimeout", boolean.class, true);
         assertThatNotAllowed(embedderControls, "useThreads", int.class, 1);
+        assertThatNotAllowed(embedderControls, "doScheduleByDuration", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "doLoadStoriesInParallel", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "doReuseExecutorService", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "useEmbeddablesThreads", int.class, 1);
+        assertThatNotAllowed(embedderControls, "useParsedStoriesCacheSize", int.class, 1);
     }
 
     private void assertThatNotAllowed(EmbedderControls unmodifiable, String methodName, Class<?> type, Object value)
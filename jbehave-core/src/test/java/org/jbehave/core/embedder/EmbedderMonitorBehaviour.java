@@ -110,6 +110,8 @@ class EmbedderMonitorBehaviour {
         monitor.systemPropertySet(name, value);
         int threads = 2;
         monitor.usingThreads(threads);
+        monitor.stepsResolved(3L, 1L);
+        monitor.storiesScheduledByDuration(2000L, 2100L);
         
         // Then        
         verify(delegate).annotatedInstanceNotOfType(annotatedInstance, annotatedInstance.getClass());
@@ -132,6 +134,8 @@ class EmbedderMonitorBehaviour {
         verify(delegate).storyTimeout(story, storyDuration);
         verify(delegate).systemPropertySet(name, value);
         verify(delegate).usingThreads(threads);
+        verify(delegate).stepsResolved(3L, 1L);
+        verify(delegate).storiesScheduledByDuration(2000L, 2100L);
     }
 
 }
@@ -239,6 +239,16 @@ class ExpressionResolverBehaviour {
         verifyNoInteractions(processor);
     }
 
+    @Test
+    void shouldNotProcessValuesWithoutExpressions() {
+        String input = "value with ${variable} and {braces}";
+        ExpressionProcessor<?> processor = mock();
+        ExpressionResolver expressionResolver = new ExpressionResolver(Collections.singleton(processor),
+                new PrintStreamExpressionResolverMonitor());
+        assertSame(input, expressionResolver.resolveExpressions(false, input));
+        verifyNoInteractions(processor);
+    }
+
     @Test
     void shouldReturnNotAStringValueForATopLevelExpression() {
         String expression = "#{object(#{string()})}";
@@ -8,7 +8,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -19,6 +21,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -30,7 +33,9 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -44,6 +49,7 @@ import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
 import org.jbehave.core.embedder.PerformableTree.ExamplePerformableScenario;
+import org.jbehave.core.embedder.PerformableTree.PerformableScenario;
 import org.jbehave.core.embedder.PerformableTree.RunContext;
 import org.jbehave.core.failures.BatchFailures;
 import org.jbehave.core.failures.IgnoringStepsFailure;
@@ -58,6 +64,7 @@ import org.jbehave.core.model.Narrative;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.parsers.StoryParser;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.reporters.StoryReporterBuilder;
 import org.jbehave.core.steps.BeforeOrAfterStep;
@@ -584,6 +591,95 @@ class PerformableTreeBehaviour {
         verifyNoMoreInteractions(storyReporter);
     }
 
+    @Test
+    void shouldParseStoryOfPathAgainOnlyIfItsTextHasChangedIfCached() {
+        String path = "path/to/story";
+        String otherPath = "path/to/other";
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        StoryParser storyParser = mock(StoryParser.class);
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(storyLoader)
+                .useStoryParser(storyParser);
+        Story story = new Story(path);
+        Story changedStory = new Story(path);
+        when(storyLoader.loadStoryAsText(path)).thenReturn("Scenario: A", "Scenario: A", "Scenario: B",
+                "Scenario: B", "Scenario: B");
+        when(storyLoader.loadStoryAsText(otherPath)).thenReturn("Scenario: C");
+        when(storyParser.parseStory("Scenario: A", path)).thenReturn(story);
+        when(storyParser.parseStory("Scenario: B", path)).thenReturn(changedStory);
+        when(storyParser.parseStory("Scenario: C", otherPath)).thenReturn(new Story(otherPath));
+        PerformableTree performableTree = new PerformableTree();
+        performableTree.useParsedStoriesCache(1);
+        assertThat(performableTree.storyOfPath(configuration, path), is(story));
+        assertThat(performableTree.storyOfPath(configuration, path), is(story));
+        assertThat(performableTree.storyOfPath(configuration, path), is(changedStory));
+        verify(storyParser, times(1)).parseStory("Scenario: A", path);
+        // evicted by the other story
+        performableTree.storyOfPath(configuration, otherPath);
+        performableTree.storyOfPath(configuration, path);
+        verify(storyParser, times(2)).parseStory("Scenario: B", path);
+        // not cached once cleared
+        performableTree.clearParsedStoriesCache();
+        performableTree.storyOfPath(configuration, path);
+        verify(storyParser, times(3)).parseStory("Scenario: B", path);
+    }
+
+    @Test
+    void shouldParseStoryOfPathEveryTimeByDefault() {
+        String path = "path/to/story";
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        StoryParser storyParser = mock(StoryParser.class);
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(storyLoader)
+                .useStoryParser(storyParser);
+        when(storyLoader.loadStoryAsText(path)).thenReturn("Scenario: A");
+        when(storyParser.parseStory("Scenario: A", path)).thenReturn(new Story(path), new Story(path));
+        PerformableTree performableTree = new PerformableTree();
+        Story story = performableTree.storyOfPath(configuration, path);
+        assertThat(performableTree.storyOfPath(configuration, path), not(sameInstance(story)));
+        verify(storyParser, times(2)).parseStory("Scenario: A", path);
+    }
+
+    @Test
+    void shouldPerformExamplesConcurrentlyReportingInExampleOrder() {
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            rows.add(singletonMap("row", Integer.toString(i)));
+        }
+        Keywords keywords = new Keywords();
+        Scenario scenario = new Scenario("scenario with parallel examples",
+                Meta.createMeta("@" + PerformableScenario.PARALLEL_EXAMPLES, keywords), GivenStories.EMPTY,
+                ExamplesTable.empty().withRows(rows), singletonList("When I record example <row>"));
+        Story story = new Story(STORY_PATH, null, null, null, null, new Lifecycle(), singletonList(scenario));
+
+        StoryReporter storyReporter = mock(StoryReporter.class);
+        StoryReporterBuilder storyReporterBuilder = mock(StoryReporterBuilder.class);
+        when(storyReporterBuilder.build(STORY_PATH)).thenReturn(storyReporter);
+        Configuration configuration = new MostUsefulConfiguration().useStoryReporterBuilder(storyReporterBuilder);
+
+        Steps steps = new Steps();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = createRunContext(configuration, performableTree, mock(BatchFailures.class),
+                singletonList(story), steps);
+        ExecutorService executorService = Executors.newFixedThreadPool(rows.size());
+        try {
+            runContext.useExecutorService(executorService);
+            performableTree.perform(runContext, story);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(steps.examplesRecorded.size(), is(rows.size()));
+        assertTrue(steps.exampleThreads.size() > 1);
+        assertThat(runContext.state().getClass().getSimpleName(), is("FineSoFar"));
+        InOrder ordered = inOrder(storyReporter);
+        ordered.verify(storyReporter).beforeExamples(scenario.getSteps(), scenario.getExamplesTable());
+        for (int i = 0; i < rows.size(); i++) {
+            String row = Integer.toString(i);
+            ordered.verify(storyReporter).example(argThat(parameters -> row.equals(parameters.get("row"))), eq(i));
+            ordered.verify(storyReporter).successful(anyString());
+        }
+        ordered.verify(storyReporter).afterExamples();
+    }
+
     private RunContext runStoryInContext() {
         Configuration configuration = new MostUsefulConfiguration();
         configuration.useStoryLoader(mock(StoryLoader.class));
@@ -658,6 +754,8 @@ class PerformableTreeBehaviour {
         private RunContext runContext;
         private Story story;
         private StoryDuration storyDuration;
+        private final Set<String> exampleThreads = ConcurrentHashMap.newKeySet();
+        private final Set<Integer> examplesRecorded = ConcurrentHashMap.newKeySet();
 
         @When("I fail")
         public void fail() {
@@ -692,5 +790,12 @@ class PerformableTreeBehaviour {
         public void executeStep3() {
             this.step3Invoked = true;
         }
+
+        @When("I record example $row")
+        public void recordExample(int row) throws InterruptedException {
+            exampleThreads.add(Thread.currentThread().getName());
+            Thread.sleep(100);
+            examplesRecorded.add(row);
+        }
     }
 }
@@ -0,0 +1,46 @@
+package org.jbehave.core.embedder;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.jbehave.core.condition.StepConditionMatcher;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.steps.InjectableStepsFactory;
+import org.junit.jupiter.api.Test;
+
+class StepCandidatesRegistryBehaviour {
+
+    private final Configuration configuration = new MostUsefulConfiguration();
+    private final InjectableStepsFactory stepsFactory = mock(InjectableStepsFactory.class);
+    private final StepCandidatesRegistry registry = new StepCandidatesRegistry(stepsFactory);
+
+    @Test
+    void shouldShareStepCandidatesUntilInvalidated() {
+        when(stepsFactory.createCandidateSteps()).thenReturn(Collections.emptyList());
+        AllStepCandidates allStepCandidates = registry.allStepCandidates(configuration);
+        assertThat(registry.allStepCandidates(configuration), sameInstance(allStepCandidates));
+        verify(stepsFactory, times(1)).createCandidateSteps();
+
+        registry.invalidate();
+        assertThat(registry.allStepCandidates(configuration), not(sameInstance(allStepCandidates)));
+        verify(stepsFactory, times(2)).createCandidateSteps();
+    }
+
+    @Test
+    void shouldCreateStepCandidatesAgainIfStepConditionMatcherHasChanged() {
+        when(stepsFactory.createCandidateSteps()).thenReturn(Collections.emptyList());
+        AllStepCandidates allStepCandidates = registry.allStepCandidates(configuration);
+        configuration.useStepConditionMatcher(mock(StepConditionMatcher.class));
+        assertThat(registry.allStepCandidates(configuration), not(sameInstance(allStepCandidates)));
+        verify(stepsFactory, times(2)).createCandidateSteps();
+    }
+
+}
@@ -1,19 +1,36 @@
 package org.jbehave.core.embedder;
 
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.codehaus.plexus.util.FileUtils;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.StoryManager.EnqueuedStory;
 import org.jbehave.core.embedder.StoryManager.RunningStory;
+import org.jbehave.core.embedder.StoryManager.StoryOutcome;
+import org.jbehave.core.embedder.StoryManager.ThrowableStory;
+import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.model.Story;
 import org.jbehave.core.steps.InjectableStepsFactory;
 import org.junit.jupiter.api.Test;
 
@@ -39,4 +56,84 @@ class StoryManagerBehaviour {
         assertThat(outputDirectory.exists(), is(true));
     }
 
+    @Test
+    void shouldLoadStoriesInParallelKeepingTheOrderOfTheirPaths() {
+        List<String> storyPaths = asList("one.story", "two.story", "three.story");
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        for (String storyPath : storyPaths) {
+            when(storyLoader.loadStoryAsText(storyPath)).thenReturn("Scenario: " + storyPath);
+        }
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(storyLoader);
+        embedderControls.doLoadStoriesInParallel(true).useThreads(2);
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls, embedderMonitor,
+                    threads, performableTree);
+            List<Story> stories = manager.storiesOfPaths(storyPaths);
+            assertThat(stories.stream().map(Story::getPath).collect(Collectors.toList()), equalTo(storyPaths));
+            assertThat(stories.get(2).getScenarios().get(0).getTitle(), equalTo("three.story"));
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldTakeTheDurationOfStoriesWhenTheyFinish() throws InterruptedException {
+        Story story = new Story("story");
+        EnqueuedStory enqueuedStory = new EnqueuedStory(mock(PerformableTree.class), null, embedderControls,
+                embedderMonitor, story, new StoryTimeouts(embedderControls, embedderMonitor),
+                new LinkedBlockingQueue<>());
+        ThrowableStory throwableStory = enqueuedStory.call();
+        // the outcome is collected later than the story finished
+        Thread.sleep(50);
+        RunningStory runningStory = new RunningStory(enqueuedStory, CompletableFuture.completedFuture(throwableStory));
+        runningStory.updateDuration();
+        assertThat(runningStory.getDurationInMillis(),
+                is(enqueuedStory.getFinishedAtMillis() - enqueuedStory.getStartedAtMillis()));
+    }
+
+    @Test
+    void shouldCollectStoriesAsSoonAsTheyFinish() throws Exception {
+        List<String> storyPaths = asList("one.story", "two.story");
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        for (String storyPath : storyPaths) {
+            when(storyLoader.loadStoryAsText(storyPath)).thenReturn("Scenario: " + storyPath);
+        }
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(storyLoader);
+        embedderControls.useThreads(2);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch finished = new CountDownLatch(1);
+        PerformableTree blockingTree = new PerformableTree() {
+            @Override
+            public void perform(RunContext context, Story story) {
+                started.countDown();
+                try {
+                    finished.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.perform(context, story);
+            }
+        };
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        ExecutorService runner = Executors.newSingleThreadExecutor();
+        try {
+            StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls, embedderMonitor,
+                    threads, blockingTree);
+            // the completion of the stories is never checked within the test, unless notified by their events
+            manager.useCompletionCheckInterval(TimeUnit.HOURS.toMillis(1));
+            Future<?> run = runner.submit(
+                    () -> manager.runStoriesAsPaths(storyPaths, new MetaFilter(), new BatchFailures()));
+            assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+            finished.countDown();
+            run.get(10, TimeUnit.SECONDS);
+            for (StoryOutcome outcome : manager.outcomes()) {
+                assertThat(outcome.isDone(), is(true));
+            }
+        } finally {
+            runner.shutdownNow();
+            threads.shutdownNow();
+        }
+    }
+
 }
@@ -0,0 +1,95 @@
+package org.jbehave.core.embedder;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import org.jbehave.core.model.Story;
+import org.junit.jupiter.api.Test;
+
+class StorySchedulerBehaviour {
+
+    @Test
+    void shouldScheduleStoriesLongestFirstKeepingOrderOfEqualDurations() {
+        // Given
+        StoryScheduler scheduler = new StoryScheduler(durations("a.story", "1000", "b.story", "5000", "c.story",
+                "1000", "d.story", "3000"), 2);
+
+        // When
+        List<Story> scheduled = scheduler.schedule(stories("a.story", "b.story", "c.story", "d.story"));
+
+        // Then
+        assertThat(pathsOf(scheduled), contains("b.story", "d.story", "a.story", "c.story"));
+    }
+
+    @Test
+    void shouldScheduleStoriesWithoutDurationAsAverageStories() {
+        // Given
+        StoryScheduler scheduler = new StoryScheduler(durations("a.story", "1000", "b.story", "5000", "c.story",
+                "invalid"), 2);
+
+        // When
+        List<Story> scheduled = scheduler.schedule(stories("a.story", "c.story", "new.story", "b.story"));
+
+        // Then
+        assertThat(pathsOf(scheduled), contains("b.story", "c.story", "new.story", "a.story"));
+    }
+
+    @Test
+    void shouldPredictMakespanOfStoriesAssignedToFirstAvailableThread() {
+        // Given
+        StoryScheduler scheduler = new StoryScheduler(durations("a.story", "1000", "b.story", "5000", "c.story",
+                "1000", "d.story", "3000", "e.story", "2000"), 2);
+        List<Story> stories = stories("a.story", "b.story", "c.story", "d.story", "e.story");
+
+        // Then
+        assertThat(scheduler.predictedMakespan(stories), equalTo(7000L));
+        assertThat(scheduler.predictedMakespan(scheduler.schedule(stories)), equalTo(6000L));
+    }
+
+    @Test
+    void shouldScheduleFromDurationsOfPreviousRun() throws IOException {
+        // Given
+        File directory = new File("target/scheduler");
+        directory.mkdirs();
+        try (Writer writer = new FileWriter(new File(directory, "storyDurations.props"))) {
+            durations("a.story", "1000", "b.story", "2000", "total", "3000").store(writer, null);
+        }
+
+        // When
+        StoryScheduler scheduler = StoryScheduler.fromDurationsIn(directory, "storyDurations.props", 1);
+
+        // Then
+        List<Story> stories = stories("a.story", "b.story");
+        assertThat(pathsOf(scheduler.schedule(stories)), contains("b.story", "a.story"));
+        assertThat(scheduler.predictedMakespan(stories), equalTo(3000L));
+        assertThat(pathsOf(StoryScheduler.fromDurationsIn(directory, "missing.props", 1).schedule(stories)),
+                contains("a.story", "b.story"));
+    }
+
+    private Properties durations(String... pathsAndDurations) {
+        Properties durations = new Properties();
+        for (int i = 0; i < pathsAndDurations.length; i += 2) {
+            durations.setProperty(pathsAndDurations[i], pathsAndDurations[i + 1]);
+        }
+        return durations;
+    }
+
+    private List<Story> stories(String... paths) {
+        return asList(paths).stream().map(Story::new).collect(Collectors.toList());
+    }
+
+    private List<String> pathsOf(List<Story> stories) {
+        return stories.stream().map(Story::getPath).collect(Collectors.toList());
+    }
+
+}
@@ -1,9 +1,13 @@
 package org.jbehave.core.embedder.executors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.startsWith;
 
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jbehave.core.embedder.EmbedderControls;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,21 @@ class ExecutorsBehaviour {
     void shouldCreateExecutors() {
         assertThat(new FixedThreadExecutors().create(new EmbedderControls()), instanceOf(ExecutorService.class));
         assertThat(new DirectExecutorService().create(new EmbedderControls()), instanceOf(ExecutorService.class));
+        assertThat(new VirtualThreadExecutors().create(new EmbedderControls()), instanceOf(ExecutorService.class));
+        assertThat(new WorkStealingExecutors().create(new EmbedderControls()), instanceOf(ForkJoinPool.class));
     }
-  
+
+    @Test
+    void shouldRunInVirtualThreadsIfSupported() throws Exception {
+        boolean supported = Arrays.stream(Thread.class.getMethods()).anyMatch(m -> m.getName().equals("ofVirtual"));
+        assertThat(VirtualThreadExecutors.isSupported(), equalTo(supported));
+        ExecutorService executorService = new VirtualThreadExecutors().create(new EmbedderControls().useThreads(2));
+        try {
+            String threadName = executorService.submit(() -> Thread.currentThread().getName()).get();
+            assertThat(threadName, startsWith(supported ? "jbehave-virtual-" : "pool-"));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
 }
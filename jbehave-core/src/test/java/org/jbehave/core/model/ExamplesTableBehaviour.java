@@ -701,6 +701,52 @@ public class ExamplesTableBehaviour {
         assertEquals(expected, table.getRow(1));
     }
 
+    @Test
+    void shouldNotModifyTableWhenModifyingRow() {
+        ExamplesTable table = new ExamplesTable("|one|two|\n|11|12|");
+        Map<String, String> row = table.getRow(0);
+        row.entrySet().iterator().next().setValue("111");
+        row.put("three", "13");
+        row.remove("two");
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("one", "111");
+        expected.put("three", "13");
+        assertEquals(expected, row);
+        assertEquals(asList("one", "two"), new ArrayList<>(table.getRow(0).keySet()));
+        assertEquals(asList("11", "12"), new ArrayList<>(table.getRow(0).values()));
+        assertEquals(asList("11", "12"), table.getRowValues(0));
+    }
+
+    @Test
+    void shouldNotModifyRowWhenModifyingTable() {
+        ExamplesTable table = new ExamplesTable("|one|two|\n|11|12|");
+        Map<String, String> row = table.getRow(0);
+        List<Map<String, String>> rows = table.getRows();
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("one", "111");
+        values.put("three", "13");
+        table.withRowValues(0, values);
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("one", "11");
+        expected.put("two", "12");
+        assertEquals(expected, row);
+        assertEquals(expected, rows.get(0));
+        assertEquals(asList("111", "12", "13"), new ArrayList<>(table.getRow(0).values()));
+    }
+
+    @Test
+    void shouldGetRowsWithHeadersModifiedInPlace() {
+        ExamplesTable table = new ExamplesTable("|one|two|\n|11|12|");
+        Map<String, String> row = table.getRow(0);
+        table.getHeaders().set(1, "three");
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("one", "11");
+        expected.put("three", "12");
+        assertEquals(expected, table.getRow(0));
+        assertEquals(expected, table.getRows().get(0));
+        assertEquals(asList("one", "two"), new ArrayList<>(row.keySet()));
+    }
+
     private ExamplesTableFactory createFactory(ParameterConverter... converters) {
         TableTransformers tableTransformers = new TableTransformers();
         return createFactory(tableTransformers, converters);
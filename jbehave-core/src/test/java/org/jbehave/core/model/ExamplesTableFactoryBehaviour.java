@@ -6,9 +6,12 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -65,6 +68,25 @@ class ExamplesTableFactoryBehaviour {
         assertThat(examplesTable.asString(), equalTo(TABLE_AS_STRING));
     }
 
+    @Test
+    void shouldCreateExamplesTablesFromCachedResourceInput() {
+        // Given
+        ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        ExamplesTableFactory factory = new ExamplesTableFactory(resourceLoader, new TableTransformers());
+        factory.useExternalTablesCache(10);
+
+        // When
+        when(resourceLoader.loadResourceAsText(RESOURCE_PATH)).thenReturn(TABLE_AS_STRING);
+        ExamplesTable first = factory.createExamplesTable(RESOURCE_PATH);
+        first.withRowValues(0, Collections.singletonMap("one", "111"));
+        ExamplesTable second = factory.createExamplesTable(RESOURCE_PATH);
+
+        // Then
+        verify(resourceLoader, times(1)).loadResourceAsText(RESOURCE_PATH);
+        assertThat(first.asString(), equalTo("|one|two|\n|111|22|\n"));
+        assertThat(second.asString(), equalTo(TABLE_AS_STRING));
+    }
+
     @Test
     void shouldCreateExamplesTableWithParametersFromResourceInput() {
         // Given
@@ -2,6 +2,9 @@ package org.jbehave.core.model;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 import java.util.concurrent.TimeUnit;
 
@@ -23,6 +26,19 @@ class StoryDurationBehaviour {
         assertThat(duration.update().timedOut(), is(false));
     }
 
+    @Test
+    void shouldCalculateMillisToTimeout() {
+        StoryDuration duration = new StoryDuration(System.currentTimeMillis() - 500, 40);
+        assertThat(duration.millisToTimeout(), allOf(greaterThan(40000L), lessThanOrEqualTo(40500L)));
+        assertThat(duration.millisToCancelTimeout(), allOf(greaterThan(42000L), lessThanOrEqualTo(42500L)));
+    }
+
+    @Test
+    void shouldNotWaitForCancelTimeoutIfNoneIsDefined() {
+        StoryDuration duration = new StoryDuration(1);
+        assertThat(duration.millisToCancelTimeout(), is(0L));
+    }
+
     private void sleep(int secs) throws InterruptedException {
         TimeUnit.SECONDS.sleep(secs);
     }
@@ -5,6 +5,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -98,6 +101,35 @@ class TableParsersBehaviour {
         );
     }
 
+    @Test
+    void shouldParseTableReadInChunksWithWindowsLineSeparators() throws IOException {
+        // Given
+        String table = "|key-1|key-2|\r\n"
+                + "|val-1-1|val-1-2|\r\n"
+                + "\r\n"
+                + "|val-2-1|val-2-2|";
+        Reader reader = new StringReader(table) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 3));
+            }
+        };
+
+        TableProperties tableProperties = new TableProperties("", new LocalizedKeywords(), null);
+
+        // When
+        TableRows tableRows = new TableParsers(null, null).parseRows(reader, tableProperties);
+
+        // Then
+        List<List<String>> rows = tableRows.getRows();
+        assertThat(tableRows.getHeaders(), equalTo(Arrays.asList(KEY_1, KEY_2)));
+        assertThat(rows, hasSize(2));
+        assertAll(
+                () -> assertRow(rows.get(0), "val-1-1", "val-1-2"),
+                () -> assertRow(rows.get(1), "val-2-1", "val-2-2")
+        );
+    }
+
     private void assertRow(List<String> row, String cell1, String cell2) {
         assertThat(row, equalTo(Arrays.asList(cell1, cell2)));
     }
@@ -43,9 +43,17 @@ import org.junit.jupiter.params.provider.ValueSource;
 class RegexStoryParserBehaviour {
 
     private static final String NL = "\n";
-    private StoryParser parser = new RegexStoryParser();
+    private StoryParser parser = storyParser();
     private String storyPath = "path/to/my.story";
 
+    StoryParser storyParser() {
+        return new RegexStoryParser();
+    }
+
+    StoryParser storyParser(ExamplesTableFactory tableFactory) {
+        return new RegexStoryParser(tableFactory);
+    }
+
     @Test
     void shouldParseStoryAndProvideNameFromPath() {
         Story story = parser.parseStory(EMPTY, storyPath);
@@ -235,7 +243,7 @@ class RegexStoryParserBehaviour {
     @Test
     void shouldParseStoryWithSynonymsOfStartingWords() {
         LocalizedKeywords keywords = new LocalizedKeywords(new Locale("sy"));
-        StoryParser parser = new RegexStoryParser(
+        StoryParser parser = storyParser(
                 new ExamplesTableFactory(keywords, new LoadFromClasspath(), new TableTransformers()));
 
         String wholeStory = "Given a scenario"
@@ -606,7 +614,7 @@ class RegexStoryParserBehaviour {
                 + NL + "Szenario:"
                 + NL + "Wenn ein Kunde 20 T-Shirts bestellt";
         LocalizedKeywords keywords = new LocalizedKeywords(Locale.GERMAN);
-        parser = new RegexStoryParser(
+        parser = storyParser(
                 new ExamplesTableFactory(keywords, new LoadFromClasspath(), new TableTransformers()));
         Story story = parser.parseStory(wholeStory, storyPath);
         List<String> beforeSteps = story.getLifecycle().getBeforeSteps(Scope.SCENARIO);
@@ -1273,6 +1281,20 @@ class RegexStoryParserBehaviour {
         return builder.toString();
     }
 
+    @Test
+    void shouldParseStoryWithGivenStoriesFollowedByVeryLongTableOnly() {
+        String wholeStory = "Scenario: A scenario without steps" + NL
+                + "GivenStories: path1,path2" + NL
+                + "Examples:" + NL
+                + tableWith(2000);
+
+        Story story = parser.parseStory(wholeStory);
+
+        Scenario scenario = story.getScenarios().get(0);
+        assertThat(scenario.getTitle(), equalTo("A scenario without steps"));
+        assertThat(scenario.getExamplesTable().getRowCount(), equalTo(2000));
+    }
+
     private String tableWith(int numberOfLines) {
         StringBuilder builder = new StringBuilder();        
         builder.append("|h0|h1|h2|h3|h4|h5|h6|h7|h8|h9|" + NL);
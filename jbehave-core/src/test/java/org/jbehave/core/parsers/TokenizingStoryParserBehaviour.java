@@ -0,0 +1,145 @@
+package org.jbehave.core.parsers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.jbehave.core.io.CodeLocations.codeLocationFromClass;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.io.LoadFromClasspath;
+import org.jbehave.core.io.StoryFinder;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.model.TableTransformers;
+import org.junit.jupiter.api.Test;
+
+class TokenizingStoryParserBehaviour extends RegexStoryParserBehaviour {
+
+    private static final String[] FRAGMENTS = { "Meta:", "@author Mauro", "@theme parsing", "Narrative:",
+        "In order to", "As a", "I want to", "So that", "GivenStories:", "path/to/one.story#{0}", "Lifecycle:",
+        "Before:", "After:", "Scope:", "SCENARIO", "STORY", "STEP", "Outcome:", "ANY", "SUCCESS", "FAILURE",
+        "MetaFilter:", "+theme parsing", "Scenario:", "Examples:", "|one|two|", "|11|12|", "|21|22|", "{transformer=X}",
+        "Given a step", "When a step", "Then a step", "And a step", "!-- a comment", "Given", "a title", "Meta:Given",
+        "\n", "\n", "\n", "\r\n", " ", "\t", "\n\n", "  \n", "|--" };
+
+    private final StoryParser regexParser = new RegexStoryParser();
+
+    @Override
+    StoryParser storyParser() {
+        return new TokenizingStoryParser();
+    }
+
+    @Override
+    StoryParser storyParser(ExamplesTableFactory tableFactory) {
+        return new TokenizingStoryParser(tableFactory);
+    }
+
+    @Test
+    void shouldParseStoriesAsRegexStoryParser() {
+        LoadFromClasspath loader = new LoadFromClasspath(getClass());
+        List<String> storyPaths = new StoryFinder().findPaths(codeLocationFromClass(getClass()), "**/*.story", "");
+        assertThat(storyPaths.isEmpty(), is(false));
+        StoryParser parser = storyParser();
+        for (String storyPath : storyPaths) {
+            String storyAsText = loader.loadStoryAsText(storyPath);
+            assertThat(storyPath, modelOf(parser.parseStory(storyAsText, storyPath)),
+                    equalTo(modelOf(regexParser.parseStory(storyAsText, storyPath))));
+        }
+    }
+
+    @Test
+    void shouldParseStoriesMadeOfRandomFragmentsAsRegexStoryParser() {
+        StoryParser parser = storyParser();
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder story = new StringBuilder();
+            for (int fragments = random.nextInt(40); fragments > 0; fragments--) {
+                story.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+                if (random.nextBoolean()) {
+                    story.append(random.nextBoolean() ? "\n" : " ");
+                }
+            }
+            String storyAsText = story.toString();
+            assertThat(storyAsText, parseAs(parser, storyAsText), equalTo(parseAs(regexParser, storyAsText)));
+        }
+    }
+
+    @Test
+    void shouldParseLargeStoryWithLocalizedKeywordsAsRegexStoryParser() {
+        ExamplesTableFactory tableFactory = new ExamplesTableFactory(new LocalizedKeywords(Locale.GERMAN),
+                new LoadFromClasspath(), new TableTransformers());
+        StringBuilder story = new StringBuilder("Eine Geschichte\nMeta:\n@thema Zerlegung\nLebenszyklus:\n"
+                + "Vorher:\nGegeben ein Schritt\nNach:\nErgebnis: JEDES\nDann ein Schritt\n");
+        for (int i = 0; i < 200; i++) {
+            story.append("\nSzenario: Szenario ").append(i).append("\nGegeben ein Schritt\nWenn ein Schritt\n")
+                    .append("!-- ein Kommentar\nDann ein Schritt\nBeispiele:\n|eins|zwei|\n");
+            for (int row = 0; row < 50; row++) {
+                story.append('|').append(row).append("|").append(row * 2).append("|\n");
+            }
+        }
+        String storyAsText = story.toString();
+        Story parsed = storyParser(tableFactory).parseStory(storyAsText);
+        assertThat(parsed.getScenarios().size(), equalTo(200));
+        assertThat(modelOf(parsed), equalTo(modelOf(new RegexStoryParser(tableFactory).parseStory(storyAsText))));
+    }
+
+    private static String parseAs(StoryParser parser, String storyAsText) {
+        try {
+            return modelOf(parser.parseStory(storyAsText));
+        } catch (RuntimeException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    private static String modelOf(Story story) {
+        StringBuilder model = new StringBuilder();
+        model.append("description: ").append(story.getDescription().asString()).append('\n');
+        append(model, story.getMeta());
+        Narrative narrative = story.getNarrative();
+        model.append("narrative: ").append(narrative.inOrderTo()).append('|').append(narrative.asA()).append('|')
+                .append(narrative.iWantTo()).append('|').append(narrative.soThat()).append('|')
+                .append(narrative.isAlternative()).append('\n');
+        append(model, story.getGivenStories());
+        Lifecycle lifecycle = story.getLifecycle();
+        append(model, lifecycle.getExamplesTable());
+        model.append("before: ").append(lifecycle.getBefore()).append('\n');
+        model.append("after: ").append(lifecycle.getAfter()).append('\n');
+        for (Scenario scenario : story.getScenarios()) {
+            model.append("scenario: ").append(scenario.getTitle()).append('\n');
+            append(model, scenario.getMeta());
+            append(model, scenario.getGivenStories());
+            append(model, scenario.getExamplesTable());
+            model.append("steps: ").append(scenario.getSteps()).append('\n');
+        }
+        return model.toString();
+    }
+
+    private static void append(StringBuilder model, Meta meta) {
+        model.append("meta:");
+        for (String name : new TreeSet<>(meta.getPropertyNames())) {
+            model.append(' ').append(name).append('=').append(meta.getProperty(name));
+        }
+        model.append('\n');
+    }
+
+    private static void append(StringBuilder model, GivenStories givenStories) {
+        model.append("given stories: ").append(givenStories.asString()).append(' ')
+                .append(givenStories.getStories()).append('\n');
+    }
+
+    private static void append(StringBuilder model, ExamplesTable examplesTable) {
+        model.append("examples table: ").append(examplesTable.getPropertiesAsString()).append(' ')
+                .append(examplesTable.asString()).append('\n');
+    }
+}
@@ -0,0 +1,107 @@
+package org.jbehave.core.reporters;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jbehave.core.model.Story;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class ConcurrentStoryReporterBehaviour {
+
+    @Test
+    void shouldReportImmediatelyIfNotMultiThreading() {
+        // Given
+        StoryReporter crossReferencing = mock(StoryReporter.class);
+        StoryReporter delegate = mock(StoryReporter.class);
+        ConcurrentStoryReporter reporter = new ConcurrentStoryReporter(crossReferencing, singletonList(delegate),
+                false);
+        Story story = new Story();
+
+        // When
+        reporter.beforeStory(story, false);
+        reporter.successful("Given a step");
+
+        // Then
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).beforeStory(story, false);
+        inOrder.verify(delegate).successful("Given a step");
+        verify(crossReferencing).successful("Given a step");
+    }
+
+    @Test
+    void shouldDelayReportingInOrderUntilInvokedIfMultiThreading() {
+        // Given
+        StoryReporter crossReferencing = mock(StoryReporter.class);
+        StoryReporter delegate = mock(StoryReporter.class);
+        ConcurrentStoryReporter reporter = new ConcurrentStoryReporter(crossReferencing, singletonList(delegate),
+                true);
+        Story story = new Story();
+        Throwable cause = new Exception();
+
+        // When
+        reporter.beforeStory(story, false);
+        reporter.failed("When a step fails", cause);
+        reporter.afterStory(false);
+
+        // Then
+        verify(crossReferencing).failed("When a step fails", cause);
+        verifyNoInteractions(delegate);
+        assertThat(reporter.invoked(), is(false));
+
+        // When
+        reporter.invokeDelayed();
+        reporter.invokeDelayed();
+
+        // Then
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).beforeStory(story, false);
+        inOrder.verify(delegate).failed("When a step fails", cause);
+        inOrder.verify(delegate).afterStory(false);
+        inOrder.verifyNoMoreInteractions();
+        assertThat(reporter.invoked(), is(true));
+    }
+
+    @Test
+    void shouldJournalEventsReportedConcurrently() throws Exception {
+        // Given
+        StoryReporter delegate = mock(StoryReporter.class);
+        ConcurrentStoryReporter reporter = new ConcurrentStoryReporter(new NullStoryReporter(),
+                singletonList(delegate), true);
+        int threads = 4;
+        int eventsPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < eventsPerThread; j++) {
+                    reporter.successful("step");
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+        reporter.invokeDelayed();
+
+        // Then
+        verify(delegate, times(threads * eventsPerThread)).successful("step");
+    }
+}
@@ -0,0 +1,107 @@
+package org.jbehave.core.reporters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jbehave.core.reporters.FreemarkerProcessor.FreemarkerProcessingFailed;
+import org.junit.jupiter.api.Test;
+
+import freemarker.template.Configuration;
+import freemarker.template.SimpleScalar;
+
+class FreemarkerProcessorBehaviour {
+
+    @Test
+    void shouldShareConfigurationAndTemplatesAcrossProcessorsLoadingFromDefaultClassLoader() throws IOException {
+        // Given
+        Configuration configuration = new FreemarkerProcessor().templateConfiguration();
+
+        // Then
+        assertThat(new FreemarkerProcessor(FreemarkerProcessor.class).templateConfiguration(),
+                sameInstance(configuration));
+        assertThat(new FreemarkerProcessor().templateConfiguration().getTemplate("ftl/sh.ftl"),
+                sameInstance(configuration.getTemplate("ftl/sh.ftl")));
+    }
+
+    @Test
+    void shouldReuseConfigurationOnlyWithinProcessorLoadingFromOtherClassLoader() throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            // Given
+            FreemarkerProcessor processor = new FreemarkerProcessor(classLoader);
+            Configuration configuration = processor.templateConfiguration();
+
+            // Then
+            assertThat(processor.templateConfiguration(), sameInstance(configuration));
+            assertThat(new FreemarkerProcessor(classLoader).templateConfiguration(), not(sameInstance(configuration)));
+            assertThat(configuration, not(sameInstance(new FreemarkerProcessor().templateConfiguration())));
+        }
+    }
+
+    @Test
+    void shouldNotExposeConfigurationUsedToProcessTemplates() {
+        // Given
+        FreemarkerProcessor processor = new FreemarkerProcessor();
+
+        // Then
+        assertThat(processor.configuration(), not(sameInstance(processor.templateConfiguration())));
+        assertThat(processor.configuration(), not(sameInstance(processor.configuration())));
+    }
+
+    @Test
+    void shouldProcessTemplate() {
+        // Given
+        FreemarkerProcessor processor = new FreemarkerProcessor();
+        Map<String, Object> dataModel = new HashMap<>();
+        dataModel.put("greeting", "Hello");
+        StringWriter writer = new StringWriter();
+
+        // When
+        processor.process("org/jbehave/core/reporters/greeting.ftl", dataModel, writer);
+
+        // Then
+        assertThat(writer.toString(), equalTo("Hello, World!"));
+    }
+
+    @Test
+    void shouldProcessTemplateWithConfigurationOfSubclass() {
+        // Given
+        FreemarkerProcessor processor = new FreemarkerProcessor() {
+            @Override
+            public Configuration configuration() {
+                Configuration configuration = super.configuration();
+                configuration.setSharedVariable("greeting", new SimpleScalar("Hi"));
+                return configuration;
+            }
+        };
+        StringWriter writer = new StringWriter();
+
+        // When
+        processor.process("org/jbehave/core/reporters/greeting.ftl", new HashMap<>(), writer);
+
+        // Then
+        assertThat(writer.toString(), equalTo("Hi, World!"));
+        assertThat(processor.templateConfiguration(), not(sameInstance(new FreemarkerProcessor()
+                .templateConfiguration())));
+    }
+
+    @Test
+    void shouldFailToProcessMissingTemplate() {
+        // Given
+        FreemarkerProcessor processor = new FreemarkerProcessor();
+        StringWriter writer = new StringWriter();
+
+        // When
+        assertThrows(FreemarkerProcessingFailed.class,
+                () -> processor.process("ftl/missing.ftl", new HashMap<>(), writer));
+    }
+}
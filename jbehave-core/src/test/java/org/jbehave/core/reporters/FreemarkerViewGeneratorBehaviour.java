@@ -8,6 +8,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +22,7 @@ import org.jbehave.core.reporters.TemplateableViewGenerator.ReportCreationFailed
 import org.jbehave.core.reporters.TemplateableViewGenerator.Reports;
 import org.jbehave.core.reporters.TemplateableViewGenerator.TimeFormatter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class FreemarkerViewGeneratorBehaviour {
 
@@ -98,6 +102,40 @@ class FreemarkerViewGeneratorBehaviour {
         
     }
     
+    @Test
+    void shouldCreateReportsConcurrentlyRenderingOnlyChangedReportsIfIncremental(@TempDir File outputDirectory)
+            throws IOException {
+        // Given
+        FreemarkerViewGenerator generator = new FreemarkerViewGenerator();
+        File changed = new File(outputDirectory, "changed.txt");
+        File unchanged = new File(outputDirectory, "unchanged.txt");
+        Files.write(changed.toPath(), "changed".getBytes(StandardCharsets.UTF_8));
+        Files.write(unchanged.toPath(), "unchanged".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(outputDirectory, "changed.stats").toPath(),
+                "scenarios=2\nscenariosFailed=1\n".getBytes(StandardCharsets.UTF_8));
+        Properties viewProperties = new Properties();
+        viewProperties.setProperty("reportsThreads", "2");
+        viewProperties.setProperty("incrementalReports", "true");
+        generator.generateReportsView(outputDirectory, asList("txt"), viewProperties);
+        File changedView = new File(outputDirectory, "view/changed.txt.html");
+        File unchangedView = new File(outputDirectory, "view/unchanged.txt.html");
+        assertThat(changedView.exists(), equalTo(true));
+        assertThat(unchangedView.exists(), equalTo(true));
+
+        // When
+        long viewModified = changed.lastModified() + 10000;
+        changedView.setLastModified(viewModified);
+        unchangedView.setLastModified(viewModified);
+        changed.setLastModified(viewModified + 10000);
+        generator.generateReportsView(outputDirectory, asList("txt"), viewProperties);
+
+        // Then
+        assertThat(changedView.lastModified() == viewModified, equalTo(false));
+        assertThat(unchangedView.lastModified(), equalTo(viewModified));
+        assertThat(generator.getReportsCount().getScenarios(), equalTo(2));
+        assertThat(generator.getReportsCount().getScenariosFailed(), equalTo(1));
+    }
+
     @Test
     void shouldFormatTimeDurantionInMillis() {
         long s = 1000;
@@ -0,0 +1,133 @@
+package org.jbehave.core.reporters;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.steps.Timing;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.xml.sax.SAXException;
+
+class StreamingTemplateOutputBehaviour extends AbstractOutputBehaviour {
+
+    private final Keywords keywords = new LocalizedKeywords();
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void shouldStreamSameHtmlAsWholeStory(boolean withFailure) throws IOException {
+        // Given
+        File streamedFile = newFile("target/template-story-streamed.html");
+        File wholeStoryFile = newFile("target/template-story-whole.html");
+
+        // When
+        narrate(withFailure, new HtmlTemplateOutput(streamedFile, keywords).doStreaming(true),
+                new HtmlTemplateOutput(wholeStoryFile, keywords));
+
+        // Then
+        assertThat(fileContent(streamedFile), equalTo(fileContent(wholeStoryFile)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void shouldStreamSameXmlAsWholeStory(boolean withFailure)
+            throws IOException, SAXException, ParserConfigurationException {
+        // Given
+        File streamedFile = newFile("target/template-story-streamed.xml");
+        File wholeStoryFile = newFile("target/template-story-whole.xml");
+
+        // When
+        narrate(withFailure, new XmlTemplateOutput(streamedFile, keywords).doStreaming(true),
+                new XmlTemplateOutput(wholeStoryFile, keywords));
+
+        // Then
+        validateFileOutput(streamedFile);
+        assertThat(fileContent(streamedFile), equalTo(fileContent(wholeStoryFile)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void shouldStreamSameJsonAsWholeStory(boolean withFailure)
+            throws IOException, SAXException, ParserConfigurationException {
+        // Given
+        File streamedFile = newFile("target/template-story-streamed.json");
+        File wholeStoryFile = newFile("target/template-story-whole.json");
+
+        // When
+        narrate(withFailure, new JsonTemplateOutput(streamedFile, keywords).doStreaming(true),
+                new JsonTemplateOutput(wholeStoryFile, keywords));
+
+        // Then
+        validateFileOutput(streamedFile);
+        assertThat(fileContent(streamedFile), equalTo(fileContent(wholeStoryFile)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "html", "xml", "json" })
+    void shouldStreamSameOutputAsWholeStoryForExamplesWithDuplicateRows(String format) throws IOException {
+        // Given
+        File streamedFile = newFile("target/template-story-duplicate-rows-streamed." + format);
+        File wholeStoryFile = newFile("target/template-story-duplicate-rows-whole." + format);
+
+        // When
+        narrateExamplesWithDuplicateRows(output(format, streamedFile).doStreaming(true),
+                output(format, wholeStoryFile));
+
+        // Then
+        assertThat(fileContent(streamedFile), equalTo(fileContent(wholeStoryFile)));
+    }
+
+    private TemplateableOutput output(String format, File file) {
+        switch (format) {
+            case "xml":
+                return new XmlTemplateOutput(file, keywords);
+            case "json":
+                return new JsonTemplateOutput(file, keywords);
+            default:
+                return new HtmlTemplateOutput(file, keywords);
+        }
+    }
+
+    private static void narrateExamplesWithDuplicateRows(StoryReporter... reporters) {
+        Story story = new Story("/path/to/story", new Description("A story with duplicate examples"),
+                Meta.EMPTY, Narrative.EMPTY, new ArrayList<>());
+        Scenario scenario = new Scenario("Duplicate examples", Meta.EMPTY);
+        ExamplesTable table = new ExamplesTable("|money|to|\n|$30|Mauro|\n|$50|Paul|\n|$30|Mauro|\n");
+        Timing timing = new Timing();
+        for (StoryReporter reporter : reporters) {
+            reporter.beforeStory(story, false);
+            reporter.beforeScenario(scenario);
+            reporter.beforeExamples(asList("Given money <money>", "Then I give it to <to>"), table);
+            for (int i = 0; i < table.getRowCount(); i++) {
+                Map<String, String> row = table.getRow(i);
+                reporter.example(row, i);
+                reporter.successful("Given money " + row.get("money"));
+                reporter.successful("Then I give it to " + row.get("to"));
+            }
+            reporter.afterExamples();
+            reporter.afterScenario(timing);
+            reporter.afterStory(false);
+        }
+    }
+
+    private static void narrate(boolean withFailure, StoryReporter... reporters) {
+        // the failures are narrated from the same line, so that their stack traces are the same
+        for (StoryReporter reporter : asList(reporters)) {
+            StoryNarrator.narrateAnInterestingStory(reporter, withFailure);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.jbehave.core.steps;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.jbehave.core.steps.StepType.GIVEN;
+import static org.jbehave.core.steps.StepType.THEN;
+import static org.jbehave.core.steps.StepType.WHEN;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
+import org.jbehave.core.parsers.StepPatternParser;
+import org.junit.jupiter.api.Test;
+
+class IndexedStepCandidatesBehaviour {
+
+    private final Keywords keywords = new LocalizedKeywords();
+    private final StepPatternParser stepPatternParser = new RegexPrefixCapturingPatternParser();
+
+    @Test
+    void shouldFindOnlyCandidatesWithMatchingTypeAndLiteralPrefix() {
+        StepCandidate loggedIn = candidateWith("I am logged in as $user", GIVEN);
+        StepCandidate loggedOut = candidateWith("I am logged out", GIVEN);
+        StepCandidate click = candidateWith("I click on $button", WHEN);
+        StepCandidate any = candidateWith("$anything", GIVEN);
+        StepCandidate seeLoggedIn = candidateWith("I am logged in as $user", THEN);
+        IndexedStepCandidates candidates = new IndexedStepCandidates(
+                asList(loggedIn, loggedOut, click, any, seeLoggedIn));
+
+        assertThat(candidates.candidatesFor("Given I am logged in as admin", null), contains(loggedIn, any));
+        assertThat(candidates.candidatesFor("When I click on OK", null), contains(click));
+        assertThat(candidates.candidatesFor("When I am logged in as admin", null), empty());
+        assertThat(candidates.candidatesFor("Then I am   logged\nin as admin", null), contains(seeLoggedIn));
+    }
+
+    @Test
+    void shouldFindCandidatesForAndStepsUsingTypeOfPreviousStep() {
+        StepCandidate loggedIn = candidateWith("I am logged in as $user", GIVEN);
+        StepCandidate seeLoggedIn = candidateWith("I am logged in as $user", THEN);
+        IndexedStepCandidates candidates = new IndexedStepCandidates(asList(loggedIn, seeLoggedIn));
+
+        assertThat(candidates.candidatesFor("And I am logged in as admin", "Then I see"), contains(seeLoggedIn));
+        assertThat(candidates.candidatesFor("And I am logged in as admin", null), empty());
+        assertThat(candidates.candidatesFor("And I am logged in as admin", "When I click"), empty());
+    }
+
+    @Test
+    void shouldPreserveOrderAndListSemantics() {
+        StepCandidate first = candidateWith("a $b", GIVEN);
+        StepCandidate second = candidateWith("a b", GIVEN);
+        List<StepCandidate> list = asList(first, second);
+        IndexedStepCandidates candidates = new IndexedStepCandidates(list);
+
+        assertThat(candidates, equalTo(list));
+        assertThat(candidates.candidatesFor("Given a b", null), contains(first, second));
+    }
+
+    @Test
+    void shouldDetermineLiteralPrefixOfPatterns() {
+        assertThat(IndexedStepCandidates.literalPrefix(Pattern.compile("I am\\s+logged\\.in (.*)")),
+                equalTo("I am logged.in "));
+        assertThat(IndexedStepCandidates.literalPrefix(Pattern.compile("colou?r")), equalTo("colo"));
+        assertThat(IndexedStepCandidates.literalPrefix(Pattern.compile("abc|def")), equalTo(""));
+        assertThat(IndexedStepCandidates.literalPrefix(Pattern.compile("ab(c|d)")), equalTo("ab"));
+        assertThat(IndexedStepCandidates.literalPrefix(Pattern.compile("abc", Pattern.CASE_INSENSITIVE)),
+                equalTo(""));
+    }
+
+    private StepCandidate candidateWith(String patternAsString, StepType stepType) {
+        MostUsefulConfiguration configuration = new MostUsefulConfiguration();
+        return new StepCandidate(patternAsString, 0, stepType, null, Object.class, null, keywords,
+                stepPatternParser.parseStep(stepType, patternAsString), "$", null, null,
+                configuration.stepMonitor());
+    }
+}
@@ -0,0 +1,57 @@
+package org.jbehave.core.steps;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.steps.IndexedStepsFactory.StepsIndexNotLoaded;
+import org.jbehave.core.steps.scan.GivenOnly;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IndexedStepsFactoryBehaviour {
+
+    @Test
+    void shouldLoadIndexedStepsFromRootClass() {
+        InjectableStepsFactory factory = new IndexedStepsFactory(new MostUsefulConfiguration(), GivenOnly.class);
+        List<CandidateSteps> candidateSteps = factory.createCandidateSteps();
+        assertThat(candidateSteps.size(), equalTo(3));
+    }
+
+    @Test
+    void shouldLoadIndexedStepsFromPackagesAndFilterMatchingNames() {
+        InjectableStepsFactory factory = new IndexedStepsFactory(new MostUsefulConfiguration(),
+                "org.jbehave.core.steps.scan").matchingNames(".*GivenWhen.*").notMatchingNames(".*GivenWhenThen");
+        List<CandidateSteps> candidateSteps = factory.createCandidateSteps();
+        assertThat(candidateSteps.size(), equalTo(1));
+    }
+
+    @Test
+    void shouldNotLoadAnyStepsFromPackagesNotIndexed() {
+        InjectableStepsFactory factory = new IndexedStepsFactory(new MostUsefulConfiguration(),
+                "org.jbehave.core.steps.scan2");
+        List<CandidateSteps> candidateSteps = factory.createCandidateSteps();
+        assertThat(candidateSteps.size(), equalTo(0));
+    }
+
+    @Test
+    void shouldFailToLoadIndexedStepsClassesNotFound(@TempDir Path directory) throws IOException {
+        Path index = directory.resolve(IndexedStepsFactory.STEPS_INDEX);
+        Files.createDirectories(index.getParent());
+        Files.write(index, "org.jbehave.inexisting.Steps\n".getBytes(StandardCharsets.UTF_8));
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, null)) {
+            assertThrows(StepsIndexNotLoaded.class,
+                    () -> new IndexedStepsFactory(new MostUsefulConfiguration(), classLoader));
+        }
+    }
+
+}
@@ -4,6 +4,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -30,6 +34,18 @@ class InstanceStepsFactoryBehaviour {
         assertThat((String)converters.convert("value", String.class), equalTo("valueConverted"));
     }
 
+    @Test
+    void shouldAddParameterConvertersOfStepsInstanceOnlyOnce() {
+        MostUsefulConfiguration configuration = new MostUsefulConfiguration();
+        ParameterConverters converters = spy(configuration.parameterConverters());
+        configuration.useParameterConverters(converters);
+        InjectableStepsFactory factory = new InstanceStepsFactory(configuration, new MySteps());
+        factory.createCandidateSteps();
+        factory.createCandidateSteps();
+        verify(converters, times(1)).addConverters(anyList());
+        assertThat((String)converters.convert("value", String.class), equalTo("valueConverted"));
+    }
+
     @Test
     void shouldCreateCompositeCandidateSteps() {
         Configuration configuration = new MostUsefulConfiguration();
@@ -0,0 +1,51 @@
+package org.jbehave.core.steps;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ParameterControlsBehaviour {
+
+    private final ParameterControls parameterControls = new ParameterControls();
+
+    @Test
+    void shouldReplaceAllDelimitedNamesOfNamedParameters() {
+        Map<String, String> namedParameters = new LinkedHashMap<>();
+        namedParameters.put("one", "1");
+        namedParameters.put("two", "2");
+        namedParameters.put("<three", "3");
+        String text = "<one> <<two>> <one><four> <<three> <two";
+        assertThat(parameterControls.replaceAllDelimitedNames(text, namedParameters),
+                equalTo("1 <2> 1<four> 3 <two"));
+    }
+
+    @Test
+    void shouldReplaceDelimitedNamesInValuesOfNamedParameters() {
+        Map<String, String> namedParameters = new LinkedHashMap<>();
+        namedParameters.put("one", "<two>");
+        namedParameters.put("two", "2");
+        assertThat(parameterControls.replaceAllDelimitedNames("<one> <two>", namedParameters), equalTo("2 2"));
+    }
+
+    @Test
+    void shouldReplaceDelimitedNameWithNullValueOnlyIfTextIsTheDelimitedName() {
+        Map<String, String> namedParameters = Collections.singletonMap("one", null);
+        assertThat(parameterControls.replaceAllDelimitedNames("<one>", namedParameters), nullValue());
+        assertThrows(IllegalArgumentException.class,
+                () -> parameterControls.replaceAllDelimitedNames("<one> ", namedParameters));
+    }
+
+    @Test
+    void shouldReplaceDelimitedNamesUsingCustomDelimiters() {
+        parameterControls.useNameDelimiterLeft("[[").useNameDelimiterRight("]]");
+        assertThat(parameterControls.replaceAllDelimitedNames("[[one]] <one> [[[one]]",
+                Collections.singletonMap("one", "1")), equalTo("1 <one> [1"));
+    }
+}
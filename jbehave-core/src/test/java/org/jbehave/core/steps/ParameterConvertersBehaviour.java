@@ -625,6 +625,31 @@ class ParameterConvertersBehaviour {
         assertThat((Bar)parameterConverters.convert("foo", Bar.class), is(Bar.INSTANCE));
     }
 
+    @Test
+    void shouldResolveConvertersChainOncePerTypeUntilConvertersAreAdded() {
+        ParameterConverters parameterConverters = new ParameterConverters(new LoadFromClasspath());
+        assertThrows(ParameterConversionFailed.class, () -> parameterConverters.convert("foo", Bar.class));
+        assertThat(parameterConverters.convert("1", int.class), is(1));
+        assertThat(parameterConverters.convert("2", int.class), is(2));
+        assertThat(parameterConverters.chainMisses(), is(2L));
+        assertThat(parameterConverters.chainHits(), is(1L));
+        parameterConverters.addConverters(new FooToBarParameterConverter());
+        assertThat((Bar) parameterConverters.convert("foo", Bar.class), is(Bar.INSTANCE));
+        assertThat(parameterConverters.chainMisses(), is(3L));
+    }
+
+    @Test
+    void shouldResolveBaseConverterOfArrayElementsOncePerTypeUntilConvertersAreAdded() {
+        ParameterConverters parameterConverters = new ParameterConverters(new LoadFromClasspath());
+        assertThat(parameterConverters.convert("1,2", int[].class), is(new int[] { 1, 2 }));
+        assertThat(parameterConverters.convert("3,4", int[].class), is(new int[] { 3, 4 }));
+        assertThat(parameterConverters.baseConverterMisses(), is(1L));
+        assertThat(parameterConverters.baseConverterHits(), is(1L));
+        parameterConverters.addConverters(new FooToBarParameterConverter());
+        assertThat(parameterConverters.convert("5", int[].class), is(new int[] { 5 }));
+        assertThat(parameterConverters.baseConverterMisses(), is(2L));
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     void shouldConvertToListOfCustomObjectsUsingCustomConverter() {
@@ -4,6 +4,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.jbehave.core.steps.JBehaveMatchers.step;
 import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_END;
 import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_START;
@@ -13,6 +14,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -31,6 +33,7 @@ import java.util.stream.Stream;
 
 import com.thoughtworks.paranamer.BytecodeReadingParanamer;
 import com.thoughtworks.paranamer.CachingParanamer;
+import com.thoughtworks.paranamer.Paranamer;
 
 import org.jbehave.core.annotations.AfterScenario;
 import org.jbehave.core.configuration.Configuration;
@@ -315,6 +318,38 @@ class StepCreatorBehaviour {
         verifyBeforeStep(reporter, StepExecutionType.EXECUTABLE, name);
     }
 
+    @Test
+    void shouldResolveInvocationPlanOncePerMethodAndParanamer() throws Exception {
+        // Given
+        SomeSteps stepsInstance = new SomeSteps();
+        StepMatcher stepMatcher = new RegexStepMatcher(StepType.WHEN, "I use parameters $theme and $variant",
+                Pattern.compile("When I use parameters (.*) and (.*)"), new String[] { "theme", "variant" });
+        StepCreator stepCreator = stepCreatorUsing(stepsInstance, stepMatcher);
+        Paranamer paranamer = mock(Paranamer.class);
+        Method method = SomeSteps.methodFor("methodWithANamedParameter");
+        when(paranamer.lookupParameterNames(method, false)).thenReturn(new String[] { "theme", "variant" });
+        stepCreator.useParanamer(paranamer);
+        StoryReporter storyReporter = mock(StoryReporter.class);
+
+        // When
+        String stepAsString = "When I use parameters shopping cart and book";
+        for (int i = 0; i < 3; i++) {
+            StepResult stepResult = stepCreator.createParametrisedStep(method, stepAsString, stepAsString,
+                    new HashMap<>(), Collections.emptyList()).perform(storyReporter, null);
+            assertThat(stepResult, instanceOf(Successful.class));
+        }
+        stepCreator.useParanamer(paranamer);
+        stepCreator.createParametrisedStep(method, stepAsString, stepAsString, new HashMap<>(),
+                Collections.emptyList()).perform(storyReporter, null);
+
+        // Then
+        verify(paranamer, times(2)).lookupParameterNames(method, false);
+        @SuppressWarnings("unchecked")
+        Map<String, String> methodArgs = (Map<String, String>) stepsInstance.args;
+        assertThat(methodArgs.get("theme"), is("shopping cart"));
+        assertThat(methodArgs.get("variant"), is("book"));
+    }
+
     @Test
     void shouldHandleFailureInBeforeOrAfterStepWithMeta() throws Exception {
         // Given
@@ -333,6 +368,30 @@ class StepCreatorBehaviour {
         verifyBeforeStep(reporter, StepExecutionType.EXECUTABLE, name);
     }
 
+    @Test
+    void shouldReportParameterValuesNotAcceptedByBeforeOrAfterStepMethodAsIllegalArguments() throws Exception {
+        // Given
+        SomeSteps stepsInstance = new SomeSteps();
+        StepCreator stepCreator = stepCreatorUsing(stepsInstance);
+        stepCreator.useParanamer(new CachingParanamer(new BytecodeReadingParanamer()));
+        when(parameterConverters.convert("shopping cart", String.class)).thenReturn(42);
+        Properties properties = new Properties();
+        properties.put("theme", "shopping cart");
+        StoryReporter reporter = mock(StoryReporter.class);
+
+        // When
+        String name = "methodWithoutNamedAnnotation";
+        StepResult stepResult = stepCreator.createBeforeOrAfterStep(SomeSteps.methodFor(name),
+                new Meta(properties)).perform(reporter, null);
+
+        // Then
+        assertThat(stepResult, instanceOf(Failed.class));
+        Throwable failure = stepResult.getFailure().getCause();
+        assertThat(failure, instanceOf(BeforeOrAfterFailed.class));
+        assertThat(failure.getCause(), instanceOf(IllegalArgumentException.class));
+        assertThat(stepsInstance.args, is(nullValue()));
+    }
+
     @Test
     void shouldInvokeAfterStepUponAnyOutcomeMethodWithExpectedParametersFromMeta() throws Exception {
         // Given
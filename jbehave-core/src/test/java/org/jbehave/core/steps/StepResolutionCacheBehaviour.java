@@ -0,0 +1,58 @@
+package org.jbehave.core.steps;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.jbehave.core.steps.StepType.GIVEN;
+import static org.jbehave.core.steps.StepType.THEN;
+import static org.mockito.Mockito.mock;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class StepResolutionCacheBehaviour {
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        StepResolutionCache cache = new StepResolutionCache();
+        StepCandidate candidate = mock(StepCandidate.class);
+
+        assertThat(cache.get("Given a step", null), is(nullValue()));
+        cache.put("Given a step", null, candidate);
+        cache.put("Given another step", null, null);
+
+        assertThat(cache.get("Given a step", null), equalTo(Optional.of(candidate)));
+        assertThat(cache.get("Given another step", null), equalTo(Optional.empty()));
+        assertThat(cache.hits(), equalTo(2L));
+        assertThat(cache.misses(), equalTo(1L));
+    }
+
+    @Test
+    void shouldKeepAndStepsResolvedAfterDifferentStepTypesApart() {
+        StepResolutionCache cache = new StepResolutionCache();
+        StepCandidate given = mock(StepCandidate.class);
+        StepCandidate then = mock(StepCandidate.class);
+
+        cache.put("And a step", GIVEN, given);
+        cache.put("And a step", THEN, then);
+
+        assertThat(cache.get("And a step", GIVEN), equalTo(Optional.of(given)));
+        assertThat(cache.get("And a step", THEN), equalTo(Optional.of(then)));
+        assertThat(cache.get("And a step", null), is(nullValue()));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedResolutions() {
+        StepResolutionCache cache = new StepResolutionCache(2);
+        cache.put("Given a", null, null);
+        cache.put("Given b", null, null);
+        cache.get("Given a", null);
+        cache.put("Given c", null, null);
+
+        assertThat(cache.size(), equalTo(2));
+        assertThat(cache.get("Given a", null), equalTo(Optional.empty()));
+        assertThat(cache.get("Given b", null), is(nullValue()));
+    }
+}
@@ -0,0 +1,97 @@
+package org.jbehave.core.steps;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.jbehave.core.annotations.Given;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StepsIndexProcessorBehaviour {
+
+    @Test
+    void shouldIndexClassesDeclaringStepMethods(@TempDir Path directory) throws Exception {
+        Path sources = Files.createDirectories(directory.resolve("sources/org/steps"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        write(sources.resolve("MySteps.java"), "package org.steps;\n"
+                + "public class MySteps {\n"
+                + "    @org.jbehave.core.annotations.Given(\"a step\") public void given() { }\n"
+                + "    public static class NestedSteps {\n"
+                + "        @org.jbehave.core.annotations.AfterScenario public void after() { }\n"
+                + "    }\n"
+                + "}\n");
+        write(sources.resolve("NotSteps.java"), "package org.steps;\n"
+                + "public class NotSteps {\n"
+                + "    @org.jbehave.core.annotations.AsParameterConverter\n"
+                + "    public String convert(String value) { return value; }\n"
+                + "}\n");
+
+        compile(classes, sources.resolve("MySteps.java"), sources.resolve("NotSteps.java"));
+
+        String index = new String(Files.readAllBytes(classes.resolve(IndexedStepsFactory.STEPS_INDEX)),
+                StandardCharsets.UTF_8);
+        assertThat(index, equalTo("org.steps.MySteps\norg.steps.MySteps$NestedSteps\n"));
+    }
+
+    @Test
+    void shouldKeepIndexedClassesNotCompiledAgainAsLongAsTheyExist(@TempDir Path directory) throws Exception {
+        Path sources = Files.createDirectories(directory.resolve("sources/org/steps"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        write(sources.resolve("MySteps.java"), "package org.steps;\n"
+                + "public class MySteps {\n"
+                + "    @org.jbehave.core.annotations.Given(\"a step\") public void given() { }\n"
+                + "}\n");
+        write(sources.resolve("OtherSteps.java"), "package org.steps;\n"
+                + "public class OtherSteps {\n"
+                + "    @org.jbehave.core.annotations.When(\"a step\") public void when() { }\n"
+                + "}\n");
+        write(sources.resolve("FormerSteps.java"), "package org.steps;\n"
+                + "public class FormerSteps {\n"
+                + "    @org.jbehave.core.annotations.Then(\"a step\") public void then() { }\n"
+                + "}\n");
+        compile(classes, sources.resolve("MySteps.java"), sources.resolve("OtherSteps.java"),
+                sources.resolve("FormerSteps.java"));
+
+        // an incremental compilation of one class, after a steps class is deleted and another no longer has steps
+        Files.delete(classes.resolve("org/steps/OtherSteps.class"));
+        write(sources.resolve("FormerSteps.java"), "package org.steps;\n"
+                + "public class FormerSteps {\n"
+                + "}\n");
+        compile(classes, sources.resolve("FormerSteps.java"));
+
+        String index = new String(Files.readAllBytes(classes.resolve(IndexedStepsFactory.STEPS_INDEX)),
+                StandardCharsets.UTF_8);
+        assertThat(index, equalTo("org.steps.MySteps\n"));
+    }
+
+    private void compile(Path classes, Path... sources) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            String classpath = new File(Given.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                    .getPath() + File.pathSeparator + classes;
+            File[] files = Stream.of(sources).map(Path::toFile).toArray(File[]::new);
+            CompilationTask task = compiler.getTask(null, fileManager, null,
+                    asList("-classpath", classpath, "-d", classes.toString()), null,
+                    fileManager.getJavaFileObjects(files));
+            task.setProcessors(asList(new StepsIndexProcessor()));
+            assertThat(task.call(), equalTo(true));
+        }
+    }
+
+    private void write(Path path, String content) throws IOException {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,74 @@
+package org.jbehave.core.steps.context;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jbehave.core.annotations.ToContext.RetentionLevel;
+import org.jbehave.core.steps.context.StepsContext.ConcurrentExamples;
+import org.jbehave.core.steps.context.StepsContext.ObjectAlreadyStoredException;
+import org.jbehave.core.steps.context.StepsContext.ObjectNotStoredException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StepsContextBehaviour {
+
+    private final StepsContext stepsContext = new StepsContext();
+
+    @AfterEach
+    void resetStory() {
+        stepsContext.resetScenario();
+        stepsContext.resetStory();
+    }
+
+    @Test
+    void shouldStoreExampleKeysAgainOnlyOnceExampleIsReset() {
+        stepsContext.put("key", "one", RetentionLevel.EXAMPLE);
+        assertThrows(ObjectAlreadyStoredException.class, () -> stepsContext.put("key", "two", RetentionLevel.EXAMPLE));
+        assertThrows(ObjectAlreadyStoredException.class,
+                () -> stepsContext.put("key", "two", RetentionLevel.SCENARIO));
+        stepsContext.resetExample();
+        assertThrows(ObjectNotStoredException.class, () -> stepsContext.get("key"));
+        stepsContext.put("key", "two", RetentionLevel.SCENARIO);
+        assertThat(stepsContext.get("key"), equalTo("two"));
+        assertThrows(ObjectAlreadyStoredException.class, () -> stepsContext.put("key", "three", RetentionLevel.STORY));
+    }
+
+    @Test
+    void shouldStoreExampleKeysPerExampleWhenPerformingExamplesConcurrently() throws Exception {
+        stepsContext.put("story", "story", RetentionLevel.STORY);
+        ConcurrentExamples concurrentExamples = stepsContext.concurrentExamples();
+        concurrentExamples.perform(() -> stepsContext.put("example", "one", RetentionLevel.EXAMPLE));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            executorService.submit(() -> concurrentExamples.perform(() -> {
+                stepsContext.put("example", "two", RetentionLevel.EXAMPLE);
+                assertThat(stepsContext.get("example"), equalTo("two"));
+                assertThat(stepsContext.get("story"), equalTo("story"));
+            })).get();
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThrows(ObjectNotStoredException.class, () -> stepsContext.get("example"));
+    }
+
+    @Test
+    void shouldNotStoreScenarioOrStoryKeysTwiceWhenPerformingExamplesConcurrently() {
+        ConcurrentExamples concurrentExamples = stepsContext.concurrentExamples();
+        concurrentExamples.perform(() -> stepsContext.put("scenario", "one", RetentionLevel.SCENARIO));
+        concurrentExamples.perform(() -> assertThrows(ObjectAlreadyStoredException.class,
+                () -> stepsContext.put("scenario", "two", RetentionLevel.SCENARIO)));
+        concurrentExamples.perform(() -> assertThrows(ObjectAlreadyStoredException.class,
+                () -> stepsContext.put("scenario", "two", RetentionLevel.EXAMPLE)));
+        concurrentExamples.perform(() -> stepsContext.put("story", "one", RetentionLevel.STORY));
+        concurrentExamples.perform(() -> assertThrows(ObjectAlreadyStoredException.class,
+                () -> stepsContext.put("story", "two", RetentionLevel.STORY)));
+        assertThat(stepsContext.get("scenario"), equalTo("one"));
+        assertThat(stepsContext.get("story"), equalTo("one"));
+        assertThrows(ObjectAlreadyStoredException.class,
+                () -> stepsContext.put("scenario", "three", RetentionLevel.SCENARIO));
+    }
+}
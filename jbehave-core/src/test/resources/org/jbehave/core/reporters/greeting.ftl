@@ -0,0 +1 @@
+${greeting}, World!
\ No newline at end of file
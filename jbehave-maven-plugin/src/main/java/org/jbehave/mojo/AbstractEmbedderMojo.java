@@ -142,6 +142,36 @@ public abstract class AbstractEmbedderMojo extends AbstractMojo {
     @Parameter(defaultValue = "1")
     int threads = 1;
 
+    /**
+     * The boolean flag to schedule the stories longest-first using the story durations of the previous run
+     */
+    @Parameter(defaultValue = "false")
+    boolean scheduleByDuration = false;
+
+    /**
+     * The boolean flag to load and parse the stories in parallel, using the threads running the stories
+     */
+    @Parameter(defaultValue = "false")
+    boolean loadStoriesInParallel = false;
+
+    /**
+     * The boolean flag to reuse the executor service across the runs of stories, until the embedder is shut down
+     */
+    @Parameter(defaultValue = "false")
+    boolean reuseExecutorService = false;
+
+    /**
+     * The number of threads running the embeddables concurrently
+     */
+    @Parameter(defaultValue = "1")
+    int embeddablesThreads = 1;
+
+    /**
+     * The maximum number of parsed stories cached by path during a run of stories, 0 not caching them
+     */
+    @Parameter(defaultValue = "0")
+    int parsedStoriesCacheSize = 0;
+
     /**
      * The embedder class
      */
@@ -326,7 +356,10 @@ public abstract class AbstractEmbedderMojo extends AbstractMojo {
                 .doGenerateViewAfterStories(generateViewAfterStories).doIgnoreFailureInStories(ignoreFailureInStories)
                 .doIgnoreFailureInView(ignoreFailureInView).doVerboseFailures(verboseFailures)
                 .doVerboseFiltering(verboseFiltering)
-                .doFailOnStoryTimeout(failOnStoryTimeout).useThreads(threads);
+                .doFailOnStoryTimeout(failOnStoryTimeout).useThreads(threads)
+                .doScheduleByDuration(scheduleByDuration).doLoadStoriesInParallel(loadStoriesInParallel)
+                .doReuseExecutorService(reuseExecutorService).useEmbeddablesThreads(embeddablesThreads)
+                .useParsedStoriesCacheSize(parsedStoriesCacheSize);
         if (storyTimeouts != null) {
             embedderControls.useStoryTimeouts(storyTimeouts);
         }        
@@ -507,6 +540,17 @@ public abstract class AbstractEmbedderMojo extends AbstractMojo {
             getLog().info("Using timeout for story " + path + " of " + timeout + " secs.");
         }
 
+        @Override
+        public void stepsResolved(long cacheHits, long cacheMisses) {
+            getLog().debug("Resolved steps with " + cacheHits + " cache hits and " + cacheMisses + " cache misses");
+        }
+
+        @Override
+        public void storiesScheduledByDuration(long predictedMakespanInMillis, long actualMakespanInMillis) {
+            getLog().info("Scheduled stories by duration with predicted makespan of " + predictedMakespanInMillis
+                    + " ms and actual makespan of " + actualMakespanInMillis + " ms");
+        }
+
         @Override
         public String toString() {
             return this.getClass().getSimpleName();
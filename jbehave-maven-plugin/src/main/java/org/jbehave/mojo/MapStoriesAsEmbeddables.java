@@ -19,6 +19,8 @@ public class MapStoriesAsEmbeddables extends AbstractEmbedderMojo {
             embedder.runAsEmbeddables(classNames());
         } catch (RuntimeException e) {
             throw new MojoFailureException("Failed to map stories as embeddables", e);
+        } finally {
+            embedder.shutdown();
         }
     }
 
@@ -19,6 +19,8 @@ public class RunStoriesAsEmbeddables extends AbstractEmbedderMojo {
             embedder.runAsEmbeddables(classNames());
         } catch (RuntimeException e) {
             throw new MojoFailureException("Failed to run stories as embeddables", e);
+        } finally {
+            embedder.shutdown();
         }
     }
 
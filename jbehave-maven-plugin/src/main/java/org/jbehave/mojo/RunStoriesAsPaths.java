@@ -19,6 +19,8 @@ public class RunStoriesAsPaths extends AbstractEmbedderMojo {
             embedder.runStoriesAsPaths(storyPaths());
         } catch (RuntimeException e) {
             throw new MojoFailureException("Failed to run stories as paths", e);
+        } finally {
+            embedder.shutdown();
         }
     }
 
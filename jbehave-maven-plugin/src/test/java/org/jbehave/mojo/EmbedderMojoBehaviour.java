@@ -373,6 +373,7 @@ public class EmbedderMojoBehaviour {
 
         // Then
         verify(embedder).runAsEmbeddables(classNames);
+        verify(embedder).shutdown();
     }
 
     @Test
@@ -564,6 +565,7 @@ public class EmbedderMojoBehaviour {
 
         // Then
         verify(embedder).runAsEmbeddables(classNames);
+        verify(embedder).shutdown();
     }
 
     @Test